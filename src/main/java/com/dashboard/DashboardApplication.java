@@ -1,19 +1,27 @@
 package com.dashboard;
 
 import com.dashboard.v1.AppProperties;
+import com.dashboard.v1.util.RequestIdGenerator;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.web.ServerProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import javax.servlet.Servlet;
+import java.util.Collections;
 
 @SpringBootApplication
 @EnableConfigurationProperties(AppProperties.class)
+@EnableScheduling
 public class DashboardApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(DashboardApplication.class, args);
+		SpringApplication application = new SpringApplication(DashboardApplication.class);
+		// Request id from the MDC after the level; any logging.pattern.level in the config still wins
+		application.setDefaultProperties(Collections.singletonMap(
+				"logging.pattern.level", "%5p [%X{" + RequestIdGenerator.MDC_KEY + ":-}]"));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,88 @@
+package com.dashboard.initializer;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.SequenceGenerator;
+import java.lang.reflect.Field;
+
+/**
+ * Moves each entity's id sequence past the ids already in its table. Tables filled while ids were
+ * IDENTITY columns would otherwise collide with the first ids handed out by the pooled generators.
+ * Runs before the web server starts, so before any insert; a no-op once sequences are ahead.
+ * On MySQL the sequences are Hibernate's single-row tables with a next_val column.
+ */
+@Configuration
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    @Bean
+    SmartInitializingSingleton alignIdSequences(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        return () -> {
+            String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            boolean h2 = "H2".equalsIgnoreCase(database);
+
+            SessionFactoryImplementor sessionFactory =
+                    entityManagerFactory.unwrap(SessionFactory.class).unwrap(SessionFactoryImplementor.class);
+            for (EntityPersister persister : sessionFactory.getMetamodel().entityPersisters().values()) {
+                SequenceGenerator generator = sequenceGeneratorOf(persister.getMappedClass());
+                if (generator == null || !(persister instanceof AbstractEntityPersister)) {
+                    continue;
+                }
+                AbstractEntityPersister entityPersister = (AbstractEntityPersister) persister;
+                try {
+                    align(jdbcTemplate, h2, generator, entityPersister.getTableName(),
+                            entityPersister.getIdentifierColumnNames()[0]);
+                } catch (DataAccessException e) {
+                    logger.warn("Could not align sequence {}: {}", generator.sequenceName(), e.getMessage());
+                }
+            }
+        };
+    }
+
+    private void align(JdbcTemplate jdbcTemplate, boolean h2, SequenceGenerator generator, String table, String idColumn) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        // The pooled optimizer hands out (value - allocationSize, value], so the sequence must exceed maxId by a full block
+        long target = maxId + generator.allocationSize() + 1;
+        String sequence = generator.sequenceName();
+
+        if (h2) {
+            Long next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR " + sequence, Long.class);
+            if (next != null && next < target) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + target);
+                logger.info("Moved sequence {} to {} past existing ids in {}", sequence, target, table);
+            }
+        } else {
+            int updated = jdbcTemplate.update("UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?", target, target);
+            if (updated > 0) {
+                logger.info("Moved sequence {} to {} past existing ids in {}", sequence, target, table);
+            }
+        }
+    }
+
+    private static SequenceGenerator sequenceGeneratorOf(Class<?> entityClass) {
+        for (Field field : entityClass.getDeclaredFields()) {
+            SequenceGenerator generator = field.getAnnotation(SequenceGenerator.class);
+            if (generator != null) {
+                return generator;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.dashboard.v1.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * The schema is owned by the versioned scripts in db/migration/{h2,mysql}. Because Flyway manages
+ * the data source, Spring Boot defaults spring.jpa.hibernate.ddl-auto to none, so Hibernate only
+ * generates DDL when that property is set explicitly. Databases created earlier by Hibernate are
+ * baselined at version 0, so V1 (written with IF NOT EXISTS) only adds what is missing and later
+ * versions apply on top.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer vendorMigrationsCustomizer() {
+        return configuration -> {
+            String vendor = databaseVendor(configuration.getDataSource());
+            configuration.locations("classpath:db/migration/" + vendor)
+                    .baselineOnMigrate(true)
+                    .baselineVersion("0");
+        };
+    }
+
+    private static String databaseVendor(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return DatabaseDriver.fromProductName(productName).getId();
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Could not determine database vendor for migrations", e);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.dashboard.v1.config;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.io.IOException;
+
+/**
+ * Second-level and query cache for the reference entities (Project, User, Client,
+ * SecurityTerminateFlag). Regions, size bounds and TTLs are declared in ehcache.xml.
+ * All writes to these tables go through Hibernate, which evicts or updates the cached
+ * entries and table timestamps in the same transaction. Statistics (app.cache.statistics)
+ * are off by default; they add bookkeeping to every session.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    // Region used by the cacheable repository lookups
+    public static final String REFERENCE_QUERY_REGION = "referenceQueries";
+
+    @Value("${app.cache.enabled:true}")
+    private boolean cacheEnabled;
+
+    @Value("${app.cache.statistics:false}")
+    private boolean statisticsEnabled;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() throws IOException {
+        return Caching.getCachingProvider(EhcacheCachingProvider.class.getName())
+                .getCacheManager(new ClassPathResource("ehcache.xml").getURI(), getClass().getClassLoader());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", cacheEnabled);
+            properties.put("hibernate.cache.use_query_cache", cacheEnabled);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+            properties.putIfAbsent("hibernate.generate_statistics", statisticsEnabled);
+        };
+    }
+}
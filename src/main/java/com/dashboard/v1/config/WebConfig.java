@@ -1,12 +1,12 @@
 package com.dashboard.v1.config;
 
 import com.dashboard.v1.interceptor.RequestLoggingInterceptor;
+import com.dashboard.v1.util.MdcTaskDecorator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import org.springframework.web.filter.CommonsRequestLoggingFilter;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -27,7 +27,8 @@ public class WebConfig implements WebMvcConfigurer {
     }
 
     /**
-     * Configure thread pool for async operations
+     * Configure thread pool for async operations; Boot's task executor metrics export its queue depth
+     * and active threads as executor.* meters
      */
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
@@ -36,23 +37,8 @@ public class WebConfig implements WebMvcConfigurer {
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(100);
         executor.setThreadNamePrefix("async-");
+        executor.setTaskDecorator(new MdcTaskDecorator());
         executor.initialize();
         return executor;
     }
-
-    /**
-     * Configure request logging filter for debugging
-     */
-    @Bean
-    public CommonsRequestLoggingFilter requestLoggingFilter() {
-        CommonsRequestLoggingFilter loggingFilter = new CommonsRequestLoggingFilter();
-        loggingFilter.setIncludeClientInfo(true);
-        loggingFilter.setIncludeQueryString(true);
-        loggingFilter.setIncludePayload(true);
-        loggingFilter.setMaxPayloadLength(10000);
-        loggingFilter.setIncludeHeaders(false);
-        loggingFilter.setAfterMessagePrefix("REQUEST DATA : ");
-        return loggingFilter;
-    }
 }
-
@@ -40,10 +40,12 @@ public class AdminController {
     private final PasswordEncoder passwordEncoder;
 
     private final ProjectRepository projectRepository;
+    private final ProjectCountersRepository projectCountersRepository;
     private final VendorProjectLinkRepository vendorProjectLinkRepository;
     private final VendorService vendorService;
     private final SurveyResponseRepository surveyResponseRepository;
     private final ProjectVendorCountsRepository projectVendorCountsRepository;
+    private final ProjectVendorAssignmentRepository projectVendorAssignmentRepository;
 
     //    private final String domain = "localhost:8080";
     private final AppProperties appProperties;
@@ -153,19 +155,27 @@ public class AdminController {
         Client client = clientOptional.get();
 
         List<String> projectIds = client.getProjects();
+        if (projectIds == null || projectIds.isEmpty()) {
+            return ResponseEntity.ok(Collections.emptyList());
+        }
+
+        // One IN query for all project counters, then assemble in the client's project order
+        Map<String, ProjectCounters> countersById = new HashMap<>();
+        projectCountersRepository.findByProjectIdIn(new HashSet<>(projectIds))
+                .forEach(counters -> countersById.put(counters.getProjectId(), counters));
 
         List<GetClientResponse> responseList = new ArrayList<>();
 
         projectIds.forEach(projectId ->
         {
-            Optional<Project> project = projectRepository.findByProjectIdentifier(projectId);
-            if(project.isPresent()) {
+            ProjectCounters counters = countersById.get(projectId);
+            if(counters != null) {
                 GetClientResponse getClientResponse = new GetClientResponse();
                 getClientResponse.setProjectId(projectId);
-                getClientResponse.setComplete(String.valueOf(project.get().getComplete()));
-                getClientResponse.setTerminate(String.valueOf(project.get().getTerminate()));
-                getClientResponse.setQuotafull(String.valueOf(project.get().getQuotafull()));
-                getClientResponse.setSecurityTerminate(String.valueOf(project.get().getSecurityTerminate()));
+                getClientResponse.setComplete(String.valueOf(counters.getComplete()));
+                getClientResponse.setTerminate(String.valueOf(counters.getTerminate()));
+                getClientResponse.setQuotafull(String.valueOf(counters.getQuotafull()));
+                getClientResponse.setSecurityTerminate(String.valueOf(counters.getSecurityTerminate()));
                 responseList.add(getClientResponse);
             }
         });
@@ -183,51 +193,46 @@ public class AdminController {
         }
 
         User vendor = vendorOptional.get();
-        List<String> projectIds = vendor.getProjectsId();
+        List<String> projectIds = projectVendorAssignmentRepository.findProjectIdsByVendorUsername(userName);
         if (projectIds.isEmpty()) {
             return ResponseEntity.ok(Collections.emptyList());
         }
 
+        // Constant number of queries regardless of project count: projects with their links, then all counts
+        Set<String> uniqueProjectIds = new HashSet<>(projectIds);
+        List<Project> projects = projectRepository.findByProjectIdentifierInWithCountryLinks(uniqueProjectIds);
+
+        Map<String, ProjectVendorCounts> countsByProject = new HashMap<>();
+        projectVendorCountsRepository.findByVendorUsernameAndProjectIdIn(userName, uniqueProjectIds)
+                .forEach(counts -> countsByProject.put(counts.getProjectId(), counts));
+
         Map<String, GetVendorResponse> projectResponseMap = new HashMap<>();
 
-        projectIds.forEach(projectId ->
+        projects.forEach(project ->
         {
-            Optional<Project> project = projectRepository.findByProjectIdentifier(projectId);
-            if(project.isPresent()) {
-
-                GetVendorResponse getVendorResponse = new GetVendorResponse();
-                getVendorResponse.setProjectId(projectId);
-
-                // ✅ Fetch counts from ProjectVendorCounts table
-                Optional<ProjectVendorCounts> countsOpt =
-                        projectVendorCountsRepository.findByVendorUsernameAndProjectId(userName, projectId);
-
-                ProjectVendorCounts counts = countsOpt.orElseGet(() -> {
-                    ProjectVendorCounts emptyCounts = new ProjectVendorCounts();
-                    emptyCounts.setCompletedSurveys(0);
-                    emptyCounts.setTerminatedSurveys(0);
-                    emptyCounts.setQuotaFullSurveys(0);
-                    emptyCounts.setSecurityTerminateSurveys(0);
-                    return emptyCounts;
-                });
-
-                getVendorResponse.setComplete(String.valueOf(counts.getCompletedSurveys()));
-                getVendorResponse.setTerminate(String.valueOf(counts.getTerminatedSurveys()));
-                getVendorResponse.setQuotafull(String.valueOf(counts.getQuotaFullSurveys()));
-                getVendorResponse.setSecurityTerminate(String.valueOf(counts.getSecurityTerminateSurveys()));
-
-
-                List<CountryLink> links = new ArrayList<>();
-                project.get().getCountryLinks().forEach(countrylink ->
-                {
-                    CountryLink link = new CountryLink();
-                    link.setCountry(countrylink.getCountry());
-                    link.setOriginalLink(appProperties.getDomain()+"/survey/"+ vendor.getUserToken() +"/"+countrylink.getCountry()+"?PID="+project.get().getProjectIdentifierToken()+"&UID=111");
-                    links.add(link);
-                });
-                getVendorResponse.setLinks(links);
-                projectResponseMap.put(project.get().getProjectIdentifier(), getVendorResponse);
-            }
+            String projectId = project.getProjectIdentifier();
+            GetVendorResponse getVendorResponse = new GetVendorResponse();
+            getVendorResponse.setProjectId(projectId);
+
+            // ✅ Counts from ProjectVendorCounts table
+            ProjectVendorCounts counts = countsByProject.get(projectId);
+
+            getVendorResponse.setComplete(String.valueOf(counts != null ? counts.getCompletedSurveys() : 0));
+            getVendorResponse.setTerminate(String.valueOf(counts != null ? counts.getTerminatedSurveys() : 0));
+            getVendorResponse.setQuotafull(String.valueOf(counts != null ? counts.getQuotaFullSurveys() : 0));
+            getVendorResponse.setSecurityTerminate(String.valueOf(counts != null ? counts.getSecurityTerminateSurveys() : 0));
+
+
+            List<CountryLink> links = new ArrayList<>();
+            project.getCountryLinks().forEach(countrylink ->
+            {
+                CountryLink link = new CountryLink();
+                link.setCountry(countrylink.getCountry());
+                link.setOriginalLink(appProperties.getDomain()+"/survey/"+ vendor.getUserToken() +"/"+countrylink.getCountry()+"?PID="+project.getProjectIdentifierToken()+"&UID=111");
+                links.add(link);
+            });
+            getVendorResponse.setLinks(links);
+            projectResponseMap.put(projectId, getVendorResponse);
         });
 
         List<GetVendorResponse> responseList = new ArrayList<>(projectResponseMap.values());
@@ -1,8 +1,12 @@
 package com.dashboard.v1.controller;
 
+import com.dashboard.v1.entity.SketchScope;
 import com.dashboard.v1.entity.SurveyResponse;
 import com.dashboard.v1.entity.SurveyStatus;
 import com.dashboard.v1.repository.SurveyResponseRepository;
+import com.dashboard.v1.service.LoiHistogramService;
+import com.dashboard.v1.service.UniqueIpSketchService;
+import com.dashboard.v1.util.HyperLogLog;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +29,8 @@ public class AnalyticsController {
 
     private static final Logger logger = LoggerFactory.getLogger(AnalyticsController.class);
     private final SurveyResponseRepository surveyResponseRepository;
+    private final UniqueIpSketchService uniqueIpSketchService;
+    private final LoiHistogramService loiHistogramService;
 
     @GetMapping("/metrics")
     public ResponseEntity<?> getMetrics(@RequestParam(required = false) String market) {
@@ -233,6 +239,63 @@ public class AnalyticsController {
         return ResponseEntity.ok(markets);
     }
 
+    // Approximate distinct click IPs for a project or vendor over a day range, from HyperLogLog sketches
+    @GetMapping("/unique-ips")
+    public ResponseEntity<?> getUniqueIps(
+            @RequestParam SketchScope scope,
+            @RequestParam String key,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate) {
+
+        logger.info("Fetching unique IP estimate - scope: {}, key: {}, from {} to {}", scope, key, startDate, endDate);
+
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        LocalDate end = endDate != null ? LocalDate.parse(endDate, formatter) : LocalDate.now();
+        LocalDate start = startDate != null ? LocalDate.parse(startDate, formatter) : end;
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("error", "startDate must not be after endDate"));
+        }
+
+        long estimate = uniqueIpSketchService.mergedSketch(scope, key, start, end).estimate();
+        double relativeError = HyperLogLog.standardError();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("scope", scope);
+        response.put("key", key);
+        response.put("startDate", start.toString());
+        response.put("endDate", end.toString());
+        response.put("estimate", estimate);
+        response.put("standardErrorPercent", Math.round(relativeError * 10000.0) / 100.0);
+        // ~95% interval: two standard errors either side
+        response.put("lowerBound", Math.max(0, Math.round(estimate * (1 - 2 * relativeError))));
+        response.put("upperBound", Math.round(estimate * (1 + 2 * relativeError)));
+
+        return ResponseEntity.ok(response);
+    }
+
+    // Measured length of interview in seconds per final status, from the LOI histograms
+    @GetMapping("/loi")
+    public ResponseEntity<?> getLoi(@RequestParam SketchScope scope, @RequestParam String key) {
+        logger.info("Fetching LOI percentiles - scope: {}, key: {}", scope, key);
+
+        Map<String, Object> statuses = new LinkedHashMap<>();
+        loiHistogramService.getHistograms(scope, key).forEach((status, histogram) -> {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("count", histogram.getCount());
+            stats.put("meanSeconds", Math.round(histogram.mean()));
+            stats.put("medianSeconds", histogram.percentile(0.5));
+            stats.put("p90Seconds", histogram.percentile(0.9));
+            statuses.put(status.name(), stats);
+        });
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("scope", scope);
+        response.put("key", key);
+        response.put("statuses", statuses);
+
+        return ResponseEntity.ok(response);
+    }
+
     private long countByStatus(List<SurveyResponse> responses, SurveyStatus status) {
         return responses.stream()
                 .filter(r -> r.getStatus() == status)
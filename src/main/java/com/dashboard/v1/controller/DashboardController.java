@@ -1,21 +1,17 @@
 package com.dashboard.v1.controller;
 
-import com.dashboard.v1.entity.SurveyResponse;
+import com.dashboard.v1.entity.ProjectCounters;
 import com.dashboard.v1.entity.SurveyStatus;
+import com.dashboard.v1.repository.ProjectCountersRepository;
 import com.dashboard.v1.repository.SurveyResponseRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -28,34 +24,31 @@ public class DashboardController {
     private static final Logger logger = LoggerFactory.getLogger(DashboardController.class);
 
     private final SurveyResponseRepository surveyResponseRepository;
+    private final ProjectCountersRepository projectCountersRepository;
 
     // This endpoint returns the counts of each survey status for a given project.
+    // Finished statuses come from the running counters in project_counters; only in-progress needs a (single COUNT) query.
     @GetMapping("/project/{projectId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'VENDOR')")
     public ResponseEntity<?> getProjectDashboard(@PathVariable String projectId) {
-        Optional<List<SurveyResponse>> responsesOptional = surveyResponseRepository.findByProjectId(projectId);
+        Optional<ProjectCounters> countersOptional = projectCountersRepository.findById(projectId);
 
-        if (!responsesOptional.isPresent()) {
-            Map<String, Long> result = new HashMap<>();
+        Map<String, Long> result = new HashMap<>();
+        if (!countersOptional.isPresent()) {
             result.put("complete", 0L);
             result.put("terminate", 0L);
             result.put("quotafull", 0L);
-            return ResponseEntity.ok(
-                    result
-            );
+            result.put("securityTerminate", 0L);
+            result.put("inProgress", 0L);
+            return ResponseEntity.ok(result);
         }
 
-        // Unwrap the Optional to get the actual list
-        List<SurveyResponse> responses = responsesOptional.get();
-
-        long completeCount = responses.stream().filter(r -> r.getStatus() == SurveyStatus.COMPLETE).count();
-        long terminateCount = responses.stream().filter(r -> r.getStatus() == SurveyStatus.TERMINATE).count();
-        long quotaFullCount = responses.stream().filter(r -> r.getStatus() == SurveyStatus.QUOTAFULL).count();
-
-        Map<String, Long> result = new HashMap<>();
-        result.put("complete", completeCount);
-        result.put("terminate", terminateCount);
-        result.put("quotafull", quotaFullCount);
+        ProjectCounters counters = countersOptional.get();
+        result.put("complete", counters.getComplete());
+        result.put("terminate", counters.getTerminate());
+        result.put("quotafull", counters.getQuotafull());
+        result.put("securityTerminate", counters.getSecurityTerminate());
+        result.put("inProgress", surveyResponseRepository.countByProjectIdAndStatus(projectId, SurveyStatus.IN_PROGRESS));
 
         return ResponseEntity.ok(result);
     }
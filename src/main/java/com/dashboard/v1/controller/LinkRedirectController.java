@@ -1,12 +1,16 @@
 package com.dashboard.v1.controller;
 
 import com.dashboard.v1.entity.*;
+import com.dashboard.v1.repository.ProjectCountersRepository;
 import com.dashboard.v1.repository.ProjectRepository;
 import com.dashboard.v1.repository.SurveyResponseRepository;
 import com.dashboard.v1.repository.UserRepository;
 import com.dashboard.v1.repository.VendorProjectLinkRepository;
 import com.dashboard.v1.security.LinkRedirectService;
 import com.dashboard.v1.service.IPInfoService;
+import com.dashboard.v1.service.JourneyTraceService;
+import com.dashboard.v1.service.MetricsService;
+import com.dashboard.v1.service.UniqueIpSketchService;
 import com.dashboard.v1.util.SslUtil;
 import com.dashboard.v1.util.UrlUtils;
 import org.slf4j.Logger;
@@ -23,7 +27,9 @@ import javax.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -40,6 +46,9 @@ public class LinkRedirectController {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private ProjectCountersRepository projectCountersRepository;
+
     @Autowired
     private IPInfoService iPInfoService;
 
@@ -52,12 +61,22 @@ public class LinkRedirectController {
     @Autowired
     private LinkRedirectService linkRedirectService;
 
+    @Autowired
+    private UniqueIpSketchService uniqueIpSketchService;
+
+    @Autowired
+    private MetricsService metricsService;
+
+    @Autowired
+    private JourneyTraceService journeyTraceService;
+
     @GetMapping("/survey")
     public ResponseEntity<String> vendorClick(@RequestParam("uid") String uid,
                                               @RequestParam("pid") String pid,
                                               @RequestParam("token") String token,
                                               @RequestParam("country") String country,
                                               HttpServletRequest request) {
+        long startNanos = System.nanoTime();
 
         logger.info("========== SURVEY CLICK START ==========");
         logger.info("Received vendor click callback - uid: {}, pid: {}, token: {}, country: {}", uid, pid, token, country);
@@ -66,16 +85,14 @@ public class LinkRedirectController {
         Optional<Project> projectOpt = projectRepository.findByProjectIdentifierToken(pid);
         if(!projectOpt.isPresent()){
             logger.warn("Project not found for pid: {}", pid);
-            return ResponseEntity.status(HttpStatus.FOUND)
-                    .location(URI.create("/rejection?type=TERMINATE"))
-                    .build();
+            return rejectClick(uid, pid, startNanos, "project_not_found", "TERMINATE");
         }
 
-        if(projectOpt.get().getCounts() <= projectOpt.get().getComplete()){
+        // Project itself comes from the cache; the complete count is one primary-key read on project_counters
+        long complete = projectCountersRepository.findCompleteByProjectId(projectOpt.get().getProjectIdentifier()).orElse(0L);
+        if(projectOpt.get().getCounts() <= complete){
             logger.warn("Project quota full for pid: {}", pid);
-            return ResponseEntity.status(HttpStatus.FOUND)
-                    .location(URI.create("/rejection?type=QUOTA_FULL"))
-                    .build();
+            return rejectClick(uid, pid, startNanos, "quota_full", "QUOTA_FULL");
         }
         logger.info("Project found: {} (Status: {})", pid, projectOpt.get().getStatus());
 
@@ -84,18 +101,14 @@ public class LinkRedirectController {
 
         if (!vendor.isPresent()) {
             logger.error("Vendor not found for token: {}", token);
-            return ResponseEntity.status(HttpStatus.FOUND)
-                    .location(URI.create("/rejection?type=TERMINATE"))
-                    .build();
+            return rejectClick(uid, pid, startNanos, "vendor_not_found", "TERMINATE");
         }
 
         // Step 2: Check project status
         if(projectOpt.get().getStatus() != ProjectStatus.ACTIVE ){
             logger.warn("Project is INACTIVE - pid: {}", pid);
             String rejectionType = projectOpt.get().getStatus() == ProjectStatus.INACTIVE ? "PAUSED" : "CLOSED";
-            return ResponseEntity.status(HttpStatus.FOUND)
-                    .location(URI.create("/rejection?type=" + rejectionType))
-                    .build();
+            return rejectClick(uid, pid, startNanos, "project_inactive", rejectionType);
         }
         logger.debug("Project status is ACTIVE - proceeding...");
 
@@ -105,9 +118,7 @@ public class LinkRedirectController {
 
         if (surveyResponseOpt.isPresent()) {
             logger.warn("Survey already attempted by uid: {} for project: {}", uid, pid);
-            return ResponseEntity.status(HttpStatus.FOUND)
-                    .location(URI.create("/rejection?type=TERMINATE"))
-                    .build();
+            return rejectClick(uid, pid, startNanos, "duplicate_uid", "TERMINATE");
 
         }
         logger.debug("No existing survey found for uid: {}", uid);
@@ -116,6 +127,9 @@ public class LinkRedirectController {
         String ip = getClientIp(request);
         logger.info("Client IP address: {}", ip);
 
+        // Count every click IP (including ones rejected below) for fraud review
+        uniqueIpSketchService.recordClick(projectOpt.get().getProjectIdentifier(), vendor.get().getUsername(), ip);
+
         // Step 5: Verify country based on IP
         SslUtil.disableSslVerification();
         logger.debug("Step 5: Fetching country code for IP: {}", ip);
@@ -124,9 +138,7 @@ public class LinkRedirectController {
 
         if(countryCode != null && !countryCode.equalsIgnoreCase(country)) {
             logger.warn("Country mismatch - IP country: {}, Expected: {}, Blocking access", countryCode, country);
-            return ResponseEntity.status(HttpStatus.FOUND)
-                    .location(URI.create("/rejection?type=IP"))
-                    .build();
+            return rejectClick(uid, pid, startNanos, "country_mismatch", "IP");
         }
         logger.debug("Country verification passed");
 
@@ -137,9 +149,7 @@ public class LinkRedirectController {
 
         if (!matchingIpSurveys.isEmpty()) {
             logger.warn("Survey already attempted by IP: {} for project: {}", ip, pid);
-            return ResponseEntity.status(HttpStatus.FOUND)
-                    .location(URI.create("/rejection?type=TERMINATE"))
-                    .build();
+            return rejectClick(uid, pid, startNanos, "duplicate_ip", "TERMINATE");
         }
         logger.debug("No previous survey attempts found for this IP and project");
 
@@ -166,11 +176,16 @@ public class LinkRedirectController {
                     uid, pid, newResponse.getVendorUsername());
         } catch (Exception e) {
             logger.error("Error saving survey response - uid: {}, pid: {}", uid, pid, e);
-            return ResponseEntity.status(HttpStatus.FOUND)
-                    .location(URI.create("/rejection?type=INTERNAL_ERROR"))
-                    .build();
+            return rejectClick(uid, pid, startNanos, "save_failed", "INTERNAL_ERROR");
         }
-        return linkRedirectService.passedSurvey(projectOpt.get(), uid, pid, country);
+        ResponseEntity<String> redirect = linkRedirectService.passedSurvey(projectOpt.get(), uid, pid, country);
+        URI location = redirect.getHeaders().getLocation();
+        // passedSurvey itself rejects when the project has no link for the country
+        String outcome = location != null && location.toString().startsWith("/rejection") ? "no_survey_link" : "accepted";
+        metricsService.recordClick(outcome);
+        // The survey response is stored, so this click opens the UID's journey
+        journeyTraceService.start(uid, JourneyTraceService.STAGE_CLICK, outcome, startNanos, clickAttributes(pid));
+        return redirect;
     }
 
     @GetMapping("/rejection")
@@ -186,6 +201,20 @@ public class LinkRedirectController {
         }
     }
 
+    private ResponseEntity<String> rejectClick(String uid, String pid, long startNanos, String outcome, String rejectionType) {
+        metricsService.recordClick(outcome);
+        journeyTraceService.record(uid, JourneyTraceService.STAGE_CLICK, outcome, startNanos, clickAttributes(pid));
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create("/rejection?type=" + rejectionType))
+                .build();
+    }
+
+    private static Map<String, String> clickAttributes(String pid) {
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("pid", pid);
+        return attributes;
+    }
+
     public String getClientIp(HttpServletRequest request) {
         String ip = request.getHeader("X-Forwarded-For");  // Get IP from proxy/load balancer
         if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
@@ -1,15 +1,25 @@
 package com.dashboard.v1.controller;
 
 import com.dashboard.v1.entity.RequestLog;
+import com.dashboard.v1.model.response.CursorPageResponse;
+import com.dashboard.v1.service.CacheStatisticsService;
+import com.dashboard.v1.service.JourneyTraceService;
+import com.dashboard.v1.service.LatencyService;
+import com.dashboard.v1.service.RequestCounterService;
+import com.dashboard.v1.service.RequestLogArchiveService;
 import com.dashboard.v1.service.RequestLogService;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,9 +31,30 @@ public class MonitoringController {
 
     private static final Logger logger = LoggerFactory.getLogger(MonitoringController.class);
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     private RequestLogService requestLogService;
 
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private RequestLogArchiveService requestLogArchiveService;
+
+    @Autowired
+    private RequestCounterService requestCounterService;
+
+    @Autowired
+    private LatencyService latencyService;
+
+    @Autowired
+    private JourneyTraceService journeyTraceService;
+
+    // Absent when Prometheus export is disabled (e.g. in tests)
+    @Autowired(required = false)
+    private PrometheusMeterRegistry prometheusMeterRegistry;
+
     /**
      * Get all failed requests
      */
@@ -35,13 +66,35 @@ public class MonitoringController {
     }
 
     /**
-     * Get failed requests since a specific time
+     * Get failed requests one keyset page at a time
+     */
+    @GetMapping("/failed-requests/page")
+    public ResponseEntity<?> getFailedRequestsPage(@RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "50") int size) {
+        logger.info("Fetching failed requests page - size: {}", size);
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("error", "size must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        try {
+            CursorPageResponse<RequestLog> page = requestLogService.getFailedRequestsPage(cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get failed requests since a specific time, optionally including archived segments
      */
     @GetMapping("/failed-requests/since")
-    public ResponseEntity<List<RequestLog>> getFailedRequestsSince(@RequestParam int hours) {
-        logger.info("Fetching failed requests from last {} hours", hours);
+    public ResponseEntity<List<RequestLog>> getFailedRequestsSince(@RequestParam int hours,
+                                                                   @RequestParam(defaultValue = "false") boolean includeArchive) {
+        logger.info("Fetching failed requests from last {} hours - includeArchive: {}", hours, includeArchive);
         LocalDateTime since = LocalDateTime.now().minusHours(hours);
         List<RequestLog> failedRequests = requestLogService.getFailedRequestsSince(since);
+        if (includeArchive) {
+            failedRequests = RequestLogArchiveService.merge(failedRequests, requestLogArchiveService.findFailedSince(since));
+        }
         return ResponseEntity.ok(failedRequests);
     }
 
@@ -55,8 +108,8 @@ public class MonitoringController {
         Map<String, Object> health = new HashMap<>();
 
         try {
-            // Check recent failures
-            Long recentFailures = requestLogService.countRecentFailures();
+            // Check recent failures (in-memory counters, no database access)
+            long recentFailures = requestCounterService.countFailures(60);
             health.put("recentFailures", recentFailures);
             health.put("status", recentFailures > 10 ? "WARNING" : "HEALTHY");
             health.put("timestamp", LocalDateTime.now());
@@ -74,15 +127,38 @@ public class MonitoringController {
     }
 
     /**
-     * Get request history for a specific user
+     * Get request history for a specific user, optionally including archived segments
      */
     @GetMapping("/user-requests/{username}")
-    public ResponseEntity<List<RequestLog>> getUserRequests(@PathVariable String username) {
-        logger.info("Fetching request history for user: {}", username);
+    public ResponseEntity<List<RequestLog>> getUserRequests(@PathVariable String username,
+                                                            @RequestParam(defaultValue = "false") boolean includeArchive) {
+        logger.info("Fetching request history for user: {} - includeArchive: {}", username, includeArchive);
         List<RequestLog> requests = requestLogService.getRequestsByUsername(username);
+        if (includeArchive) {
+            requests = RequestLogArchiveService.merge(requests, requestLogArchiveService.findByUsername(username));
+        }
         return ResponseEntity.ok(requests);
     }
 
+    /**
+     * Get request history for a specific user one keyset page at a time
+     */
+    @GetMapping("/user-requests/{username}/page")
+    public ResponseEntity<?> getUserRequestsPage(@PathVariable String username,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "50") int size) {
+        logger.info("Fetching request history page for user: {} - size: {}", username, size);
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("error", "size must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        try {
+            CursorPageResponse<RequestLog> page = requestLogService.getRequestsByUsernamePage(username, cursor, size);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("error", e.getMessage()));
+        }
+    }
+
     /**
      * Get monitoring dashboard data
      */
@@ -93,16 +169,9 @@ public class MonitoringController {
         Map<String, Object> dashboard = new HashMap<>();
 
         try {
-            Long recentFailures = requestLogService.countRecentFailures();
-            List<RequestLog> last24HoursFailures = requestLogService.getFailedRequestsSince(
-                LocalDateTime.now().minusHours(24)
-            );
-
-            dashboard.put("recentFailures", recentFailures);
-            dashboard.put("last24HoursFailures", last24HoursFailures.size());
-            dashboard.put("criticalFailures", last24HoursFailures.stream()
-                .filter(r -> r.getResponseStatus() != null && r.getResponseStatus() >= 500)
-                .count());
+            dashboard.put("recentFailures", requestCounterService.countFailures(60));
+            dashboard.put("last24HoursFailures", requestCounterService.countFailures(24 * 60));
+            dashboard.put("criticalFailures", requestCounterService.countServerErrors(24 * 60));
             dashboard.put("timestamp", LocalDateTime.now());
 
             return ResponseEntity.ok(dashboard);
@@ -113,5 +182,67 @@ public class MonitoringController {
             return ResponseEntity.status(500).body(errorMap);
         }
     }
-}
 
+    /**
+     * Request counts per endpoint pattern and status class over the last {@code minutes} minutes
+     */
+    @GetMapping("/traffic")
+    public ResponseEntity<?> getTraffic(@RequestParam(defaultValue = "60") int minutes) {
+        if (minutes < 1 || minutes > RequestCounterService.MAX_WINDOW_MINUTES) {
+            return ResponseEntity.badRequest().body(Collections.singletonMap("error",
+                    "minutes must be between 1 and " + RequestCounterService.MAX_WINDOW_MINUTES));
+        }
+        return ResponseEntity.ok(requestCounterService.getEndpointCounts(minutes));
+    }
+
+    /**
+     * Latency percentiles and throughput per handler method over the last 1, 5 and 60 minutes
+     */
+    @GetMapping("/latency")
+    public ResponseEntity<Map<String, Map<String, Map<String, Object>>>> getLatency() {
+        return ResponseEntity.ok(latencyService.getLatencies());
+    }
+
+    /**
+     * Scrape endpoint in Prometheus text format: click, callback, postback and geo lookup meters,
+     * Hikari pool, taskExecutor and JVM GC
+     */
+    @GetMapping(value = "/metrics", produces = "text/plain; version=0.0.4; charset=utf-8")
+    public ResponseEntity<String> scrapeMetrics() {
+        if (prometheusMeterRegistry == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body("Prometheus export is disabled");
+        }
+        return ResponseEntity.ok(prometheusMeterRegistry.scrape());
+    }
+
+    /**
+     * Timeline of a respondent's journey (landing page, click, callback, postback) for diagnosing slow or lost callbacks
+     */
+    @GetMapping("/journeys/{uid}")
+    public ResponseEntity<?> getJourney(@PathVariable String uid) {
+        logger.info("Fetching journey timeline for uid: {}", uid);
+        return journeyTraceService.getTimeline(uid)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Collections.singletonMap("error", "No journey recorded for uid " + uid)));
+    }
+
+    /**
+     * Request logging pipeline counters, including records dropped when the buffer was full
+     */
+    @GetMapping("/request-log/stats")
+    public ResponseEntity<Map<String, Object>> getRequestLogStats() {
+        return ResponseEntity.ok(requestLogService.getLoggingStats());
+    }
+
+    /**
+     * Per-region hit ratios of the Hibernate second-level and query caches
+     */
+    @GetMapping("/cache")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        logger.info("Fetching cache statistics");
+        return ResponseEntity.ok(cacheStatisticsService.getCacheStatistics());
+    }
+}
@@ -4,22 +4,32 @@ import com.dashboard.v1.AppProperties;
 import com.dashboard.v1.entity.*;
 import com.dashboard.v1.model.request.CreateProjectRequest;
 import com.dashboard.v1.model.request.ProjectVendorLinksRequest;
+import com.dashboard.v1.model.response.ProjectSummaryResponse;
 import com.dashboard.v1.model.response.ProjectTableDataResponse;
 import com.dashboard.v1.model.response.VendorLinks;
 import com.dashboard.v1.model.response.VendorProjectDetailsResponse;
 import com.dashboard.v1.repository.ClientRepository;
+import com.dashboard.v1.repository.ProjectCountersRepository;
+import com.dashboard.v1.repository.ProjectQuotaRepository;
 import com.dashboard.v1.repository.ProjectRepository;
+import com.dashboard.v1.repository.ProjectVendorAssignmentRepository;
 import com.dashboard.v1.repository.SecurityTerminateFlagRepository;
 import com.dashboard.v1.repository.UserRepository;
+import com.dashboard.v1.service.ProjectTableService;
 import com.dashboard.v1.service.VendorProjectDetailsService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.transaction.Transactional;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -41,10 +51,20 @@ public class ProjectController {
 
     private final VendorProjectDetailsService vendorProjectDetailsService;
 
+    private final ProjectTableService projectTableService;
+
     private final ClientRepository clientRepository;
 
+    private final ProjectVendorAssignmentRepository projectVendorAssignmentRepository;
+
+    private final ProjectQuotaRepository projectQuotaRepository;
+
+    private final ProjectCountersRepository projectCountersRepository;
+
     private final AppProperties appProperties;
 
+    private final ObjectMapper objectMapper;
+
     /**
      * Generates a unique, small token from the projectIdentifier
      * Uses SHA-256 hash and takes first 10 characters for a short, unique token
@@ -113,12 +133,17 @@ public class ProjectController {
             project.setIr(request.getIr());
             project.setCounts(request.getCounts());
             project.setLoi(request.getLoi());
-            project.setQuota(request.getQuota());
             project.setCpi(request.getCpi());
 
             // Save the project first (this will set the client_id foreign key)
             Project savedProject = projectRepository.save(project);
 
+            if (request.getQuota() != null) {
+                projectQuotaRepository.save(new ProjectQuota(savedProject.getProjectIdentifier(), request.getQuota()));
+            }
+
+            projectCountersRepository.save(new ProjectCounters(savedProject.getProjectIdentifier()));
+
             SecurityTerminateFlag securityTerminateFlag = new SecurityTerminateFlag();
             securityTerminateFlag.setProjectId(request.getProjectIdentifier());
             securityTerminateFlag.setFlag(request.getSecurityTerminateFlag());
@@ -157,12 +182,11 @@ public class ProjectController {
             @RequestParam(required = false, defaultValue = "ACTIVE") ProjectStatus projectStatus) {
         logger.info("inside ProjectController /projects/all with status: {}", projectStatus);
         try {
-            // Use JOIN FETCH to eagerly load client within transaction
-            List<Project> projects = projectRepository.findAllWithClient(projectStatus);
+            // Scalar projection: no lazy collections are touched while serializing
+            List<ProjectSummaryResponse> projects = projectRepository.findSummariesByStatus(projectStatus);
 
             logger.info("Fetched {} projects with status {}", projects.size(), projectStatus);
 
-            // Return the projects - @JsonIgnoreProperties will handle serialization
             return ResponseEntity.ok(projects);
         } catch (Exception e) {
             logger.error("Error fetching projects: ", e);
@@ -177,27 +201,15 @@ public class ProjectController {
     public ResponseEntity<?> getProjects() {
         logger.info("inside ProjectController /projects/table-data ");
         try {
-            // Fetch all projects
-            List<Project> projects = projectRepository.findAllProjectsWithoutClient();
-
-            // Map to DTO to avoid infinite recursion from bidirectional relationship
-            List<ProjectTableDataResponse> response = new ArrayList<>();
-            for (Project project : projects) {
-                ProjectTableDataResponse dto = new ProjectTableDataResponse();
-                dto.setProjectIdentifier(project.getProjectIdentifier());
-                dto.setStatus(project.getStatus());
-                dto.setComplete(project.getComplete());
-                dto.setTerminate(project.getTerminate());
-                dto.setQuotafull(project.getQuotafull());
-                dto.setSecurityTerminate(project.getSecurityTerminate());
-                dto.setCounts(project.getCounts());
-                dto.setVendorsUsername(project.getVendorsUsername());
-                dto.setIr(project.getIr());
-                dto.setLoi(project.getLoi());
-                dto.setQuota(project.getQuota());
-                dto.setCpi(project.getCpi());
-                response.add(dto);
+            // Two queries in total: table columns for every project, then every vendor assignment
+            List<ProjectTableDataResponse> response = projectRepository.findTableData();
+
+            Map<String, List<String>> vendorsByProject = new HashMap<>();
+            for (Object[] pair : projectVendorAssignmentRepository.findAllProjectVendorPairs()) {
+                vendorsByProject.computeIfAbsent((String) pair[0], k -> new ArrayList<>()).add((String) pair[1]);
             }
+            response.forEach(dto ->
+                    dto.setVendorsUsername(vendorsByProject.getOrDefault(dto.getProjectIdentifier(), Collections.emptyList())));
 
             logger.info("Fetched {} projects for table data", response.size());
 
@@ -209,6 +221,44 @@ public class ProjectController {
         }
     }
 
+    // DataTables server-side processing endpoint for the project table: returns only the visible page
+    @GetMapping("/table-page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getProjectTablePage(
+            @RequestParam(defaultValue = "0") int draw,
+            @RequestParam(defaultValue = "0") int start,
+            @RequestParam(defaultValue = "100") int length,
+            @RequestParam(name = "search[value]", required = false) String search,
+            @RequestParam(name = "order[0][column]", required = false) Integer orderColumn,
+            @RequestParam(name = "order[0][dir]", defaultValue = "desc") String orderDir,
+            @RequestParam(required = false) ProjectStatus status,
+            HttpServletRequest request) {
+        logger.info("inside ProjectController /projects/table-page start: {}, length: {}, status: {}", start, length, status);
+        try {
+            // DataTables sends the sorted column's data name as columns[i][data]
+            String sortColumn = orderColumn != null ? request.getParameter("columns[" + orderColumn + "][data]") : null;
+            return ResponseEntity.ok(projectTableService.getPage(draw, start, length, sortColumn,
+                    "asc".equalsIgnoreCase(orderDir), status, search));
+        } catch (Exception e) {
+            logger.error("Error fetching project table page: ", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Collections.singletonMap("error", "Failed to fetch projects: " + e.getMessage()));
+        }
+    }
+
+    // Quota text for the project details modal; kept out of the table listing because it can be very large
+    @GetMapping("/quota/{projectIdentifier}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getProjectQuota(@PathVariable String projectIdentifier) {
+        logger.info("inside ProjectController /projects/quota/{projectIdentifier} projectIdentifier : {} ", projectIdentifier);
+        if (!projectRepository.existsByProjectIdentifier(projectIdentifier)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Collections.singletonMap("error", "Project not found"));
+        }
+        String quota = projectQuotaRepository.findQuotaByProjectId(projectIdentifier).orElse(null);
+        return ResponseEntity.ok(Collections.singletonMap("quota", quota));
+    }
+
     @PostMapping("/vendor-list")
     @PreAuthorize("hasRole('ADMIN')")
     @Transactional
@@ -220,35 +270,17 @@ public class ProjectController {
 
             if (!project.isPresent()) return ResponseEntity.ok(Collections.emptyList());
 
-            List<VendorLinks> vendorLinks = new ArrayList<>();
+            String pidToken = ensureProjectIdentifierToken(project.get());
+            List<User> vendors = findAssignedVendors(project.get());
+            List<CountryLink> countryLinks = project.get().getCountryLinks();
 
-            List<String> vendorIds = project.get().getVendorsUsername();
-
-            vendorIds.forEach(vendorId -> {
-                Optional<User> vendorOptional = userRepository.findByUsername(vendorId);
-                if (!vendorOptional.isPresent()) {
-                    logger.warn("Vendor not found: {}", vendorId);
-                    return;
+            // Pure in-memory cross product of vendors x countries
+            List<VendorLinks> vendorLinks = new ArrayList<>(vendors.size() * countryLinks.size());
+            for (User vendor : vendors) {
+                for (CountryLink countrylink : countryLinks) {
+                    vendorLinks.add(buildVendorLink(vendor, countrylink, pidToken));
                 }
-
-                User vendor = vendorOptional.get();
-
-                project.get().getCountryLinks().forEach(countrylink ->
-                {
-                    VendorLinks link = new VendorLinks();
-                    String pidToken = project.get().getProjectIdentifierToken();
-                    if(pidToken == null || pidToken.isEmpty()) {
-                        // Generate and set token if not present
-                        pidToken = generateProjectIdentifierToken(project.get().getProjectIdentifier());
-                        project.get().setProjectIdentifierToken(pidToken);
-                        projectRepository.save(project.get());
-                    }
-                    link.setVendorName(vendor.getUsername());
-                    link.setLink(appProperties.getDomain() + "/survey/" + vendor.getUserToken() + "/" + countrylink.getCountry() + "?PID=" + project.get().getProjectIdentifierToken() + "&UID=111");
-                    vendorLinks.add(link);
-                });
-
-            });
+            }
             return ResponseEntity.ok(vendorLinks);
         } catch (Exception e) {
             logger.error("Error fetching projects: ", e);
@@ -257,6 +289,80 @@ public class ProjectController {
         }
     }
 
+    // Same links as /vendor-list, written as newline-delimited JSON while they are generated,
+    // so projects with hundreds of vendors x dozens of countries never hold the whole list in memory
+    @PostMapping(value = "/vendor-list/stream", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional
+    public ResponseEntity<StreamingResponseBody> streamProjectVendorLinks(@RequestBody ProjectVendorLinksRequest request) {
+        logger.info("inside ProjectController /projects/vendor-list/stream ");
+
+        Optional<Project> project = projectRepository.findByProjectIdentifier(request.getProjectId());
+        if (!project.isPresent()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        // Everything touching the database happens here, before the response body is streamed
+        String pidToken = ensureProjectIdentifierToken(project.get());
+        List<User> vendors = findAssignedVendors(project.get());
+        List<CountryLink> countryLinks = new ArrayList<>(project.get().getCountryLinks());
+
+        StreamingResponseBody body = outputStream -> {
+            for (User vendor : vendors) {
+                for (CountryLink countrylink : countryLinks) {
+                    outputStream.write(objectMapper.writeValueAsBytes(buildVendorLink(vendor, countrylink, pidToken)));
+                    outputStream.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType("application/x-ndjson")).body(body);
+    }
+
+    /**
+     * Backfills the project's identifier token once if it is missing
+     *
+     * @return the project's identifier token
+     */
+    private String ensureProjectIdentifierToken(Project project) {
+        String pidToken = project.getProjectIdentifierToken();
+        if (pidToken == null || pidToken.isEmpty()) {
+            pidToken = generateProjectIdentifierToken(project.getProjectIdentifier());
+            project.setProjectIdentifierToken(pidToken);
+            projectRepository.save(project);
+        }
+        return pidToken;
+    }
+
+    // One IN query for all vendors assigned to the project, in assignment order
+    private List<User> findAssignedVendors(Project project) {
+        List<String> vendorIds = projectVendorAssignmentRepository.findVendorUsernamesByProjectId(project.getProjectIdentifier());
+        if (vendorIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, User> vendorsByUsername = new HashMap<>();
+        userRepository.findByUsernameIn(new HashSet<>(vendorIds))
+                .forEach(vendor -> vendorsByUsername.put(vendor.getUsername(), vendor));
+
+        List<User> vendors = new ArrayList<>(vendorIds.size());
+        for (String vendorId : vendorIds) {
+            User vendor = vendorsByUsername.get(vendorId);
+            if (vendor == null) {
+                logger.warn("Vendor not found: {}", vendorId);
+                continue;
+            }
+            vendors.add(vendor);
+        }
+        return vendors;
+    }
+
+    private VendorLinks buildVendorLink(User vendor, CountryLink countrylink, String pidToken) {
+        VendorLinks link = new VendorLinks();
+        link.setVendorName(vendor.getUsername());
+        link.setLink(appProperties.getDomain() + "/survey/" + vendor.getUserToken() + "/" + countrylink.getCountry() + "?PID=" + pidToken + "&UID=111");
+        return link;
+    }
+
     // ✅ Fetch projects assigned to vendor (Vendor only)
     @GetMapping("/vendor")
     public List<VendorProjectDetailsResponse> getVendorProjects(@RequestParam String username) {
@@ -276,7 +382,16 @@ public class ProjectController {
             if (projectOpt.isPresent()) {
                 Project project = projectOpt.get();
 
-                return ResponseEntity.ok(project);
+                // Quota and counters live in their own tables since they left the entity; keep them in the details payload
+                Map<String, Object> details = objectMapper.convertValue(project, new TypeReference<Map<String, Object>>() {});
+                details.put("quota", projectQuotaRepository.findQuotaByProjectId(project.getProjectIdentifier()).orElse(null));
+                ProjectCounters counters = projectCountersRepository.findById(project.getProjectIdentifier())
+                        .orElseGet(() -> new ProjectCounters(project.getProjectIdentifier()));
+                details.put("complete", counters.getComplete());
+                details.put("terminate", counters.getTerminate());
+                details.put("quotafull", counters.getQuotafull());
+                details.put("securityTerminate", counters.getSecurityTerminate());
+                return ResponseEntity.ok(details);
             } else {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(Collections.singletonMap("error", "Project not found"));
@@ -380,7 +495,10 @@ public class ProjectController {
             if (optionalProject.isPresent()) {
                 Project project = optionalProject.get();
 
-                // Delete the project
+                // Delete the project, its vendor assignments, quota and counters
+                projectVendorAssignmentRepository.deleteByProjectId(project.getProjectIdentifier());
+                projectQuotaRepository.deleteByProjectId(project.getProjectIdentifier());
+                projectCountersRepository.deleteByProjectId(project.getProjectIdentifier());
                 projectRepository.delete(project);
 
                 logger.info("Project deleted successfully: {}", projectId);
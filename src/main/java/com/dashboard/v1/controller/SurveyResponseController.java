@@ -1,16 +1,24 @@
 package com.dashboard.v1.controller;
 
 import com.dashboard.v1.entity.*;
+import com.dashboard.v1.model.response.CursorPageResponse;
+import com.dashboard.v1.repository.ProjectCountersRepository;
 import com.dashboard.v1.repository.ProjectRepository;
 import com.dashboard.v1.repository.SecurityTerminateFlagRepository;
 import com.dashboard.v1.repository.SurveyResponseRepository;
 import com.dashboard.v1.repository.UserRepository;
+import com.dashboard.v1.service.JourneyTraceService;
+import com.dashboard.v1.service.LoiHistogramService;
+import com.dashboard.v1.service.MetricsService;
 import com.dashboard.v1.service.ProjectVendorService;
 import com.dashboard.v1.service.RequestLogService;
+import com.dashboard.v1.util.KeysetCursor;
 import com.dashboard.v1.util.SslUtil;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -25,8 +33,13 @@ import org.springframework.web.servlet.ModelAndView;
 import javax.servlet.http.HttpServletRequest;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.ToIntFunction;
 
 import static com.dashboard.v1.entity.SurveyStatus.SECURITYTERMINATE;
 
@@ -37,13 +50,19 @@ public class SurveyResponseController {
 
     private static final Logger logger = LoggerFactory.getLogger(SurveyResponseController.class);
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final SurveyResponseRepository surveyResponseRepository;
     private final ProjectRepository projectRepository;
+    private final ProjectCountersRepository projectCountersRepository;
     private final SecurityTerminateFlagRepository securityTerminateFlagRepository;
     private final UserRepository userRepository;
     private final RestTemplate restTemplate;
     private final ProjectVendorService projectVendorService;
     private final RequestLogService requestLogService;
+    private final LoiHistogramService loiHistogramService;
+    private final MetricsService metricsService;
+    private final JourneyTraceService journeyTraceService;
 
     @GetMapping("/complete")
     public ModelAndView submitComplete(@RequestParam String UID, HttpServletRequest request) {
@@ -70,11 +89,14 @@ public class SurveyResponseController {
     }
 
     private ModelAndView saveSurveyResponse(String UID, SurveyStatus status, HttpServletRequest request) {
+        long startNanos = System.nanoTime();
+        SurveyStatus requestedStatus = status;
         // Validate the project exists.
 
         Optional<SurveyResponse> surveyResponse = surveyResponseRepository.findByUId(UID);
 
         if(!surveyResponse.isPresent()){
+            recordCallback(UID, null, requestedStatus, status, "unknown_uid", startNanos);
             return null;
         }
         SurveyResponse res = surveyResponse.get();
@@ -85,7 +107,10 @@ public class SurveyResponseController {
         SecurityTerminateFlag flag = securityTerminateFlagRepository.findByProjectId(project.getProjectIdentifier());
         Optional<User> vendor = userRepository.findByUsername(res.getVendorUsername());
 
-        if(!(surveyResponse.get().getStatus() == SurveyStatus.IN_PROGRESS)) return null;
+        if(!(surveyResponse.get().getStatus() == SurveyStatus.IN_PROGRESS)) {
+            recordCallback(UID, res.getProjectId(), requestedStatus, status, "already_closed", startNanos);
+            return null;
+        }
 
         // check for ip address change
         String ipAddress = requestLogService.getClientIpAddress(request);
@@ -98,35 +123,31 @@ public class SurveyResponseController {
         res.setStatus(status);
         res.setEndTime(ZonedDateTime.now(ZoneId.of("Asia/Kolkata")).toLocalDateTime());
         surveyResponseRepository.save(res);
+        recordCallback(UID, res.getProjectId(), requestedStatus, status, "recorded", startNanos);
+
+        loiHistogramService.recordInterview(res.getProjectId(), res.getVendorUsername(), status,
+                res.getStartTime(), res.getEndTime());
 
         // Update project counts based on survey status
         switch (status) {
             case COMPLETE:
-                Long completeCount = project.getComplete();
-                project.setComplete(completeCount + 1);
-                logger.info("Incremented complete count for project {} to {}", project.getProjectIdentifier(), completeCount + 1);
-                projectRepository.save(project);
+                incrementProjectCounter(project.getProjectIdentifier(), projectCountersRepository::incrementComplete);
+                logger.info("Incremented complete count for project {}", project.getProjectIdentifier());
                 break;
 
             case TERMINATE:
-                Long terminateCount = project.getTerminate();
-                project.setTerminate(terminateCount + 1);
-                logger.info("Incremented terminate count for project {} to {}", project.getProjectIdentifier(), terminateCount + 1);
-                projectRepository.save(project);
+                incrementProjectCounter(project.getProjectIdentifier(), projectCountersRepository::incrementTerminate);
+                logger.info("Incremented terminate count for project {}", project.getProjectIdentifier());
                 break;
 
             case QUOTAFULL:
-                Long quotaFullCount = project.getQuotafull();
-                project.setQuotafull(quotaFullCount + 1);
-                logger.info("Incremented quota full count for project {} to {}", project.getProjectIdentifier(), quotaFullCount + 1);
-                projectRepository.save(project);
+                incrementProjectCounter(project.getProjectIdentifier(), projectCountersRepository::incrementQuotafull);
+                logger.info("Incremented quota full count for project {}", project.getProjectIdentifier());
                 break;
 
             case SECURITYTERMINATE:
-                Long securityTerminateCount = project.getSecurityTerminate();
-                project.setSecurityTerminate(securityTerminateCount + 1);
-                logger.info("Incremented security terminate count for project {} to {}", project.getProjectIdentifier(), securityTerminateCount + 1);
-                projectRepository.save(project);
+                incrementProjectCounter(project.getProjectIdentifier(), projectCountersRepository::incrementSecurityTerminate);
+                logger.info("Incremented security terminate count for project {}", project.getProjectIdentifier());
                 break;
 
             default:
@@ -141,6 +162,29 @@ public class SurveyResponseController {
         return renderSurveyStatusPage(UID, status, request);
     }
 
+    // The counters row is created with the project (or by the V6 migration); recreate it if it is missing
+    private void incrementProjectCounter(String projectId, ToIntFunction<String> increment) {
+        if (increment.applyAsInt(projectId) == 0) {
+            logger.warn("No counters row for project {}, creating it", projectId);
+            projectCountersRepository.saveAndFlush(new ProjectCounters(projectId));
+            increment.applyAsInt(projectId);
+        }
+    }
+
+    private void recordCallback(String UID, String projectId, SurveyStatus requestedStatus, SurveyStatus status,
+                                String outcome, long startNanos) {
+        metricsService.recordCallback(status, outcome);
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("status", status.name());
+        if (requestedStatus != status) {
+            attributes.put("requestedStatus", requestedStatus.name());
+        }
+        if (projectId != null) {
+            attributes.put("projectId", projectId);
+        }
+        journeyTraceService.record(UID, JourneyTraceService.STAGE_CALLBACK, outcome, startNanos, attributes);
+    }
+
     private ModelAndView renderSurveyStatusPage(String UID, SurveyStatus status, HttpServletRequest request) {
         Optional<SurveyResponse> surveyResponse = surveyResponseRepository.findByUId(UID);
         String projectId = surveyResponse.map(SurveyResponse::getProjectId).orElse("");
@@ -177,6 +221,36 @@ public class SurveyResponseController {
         return surveyResponseRepository.findAllOrderByCreatedAt();
     }
 
+    // Keyset page of survey responses ordered by (startTime, id) desc; pass back nextCursor for the following page
+    @GetMapping("/api/survey-responses/page")
+    public CursorPageResponse<SurveyResponse> getSurveyResponsesPage(@RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "100") int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        KeysetCursor after;
+        try {
+            after = KeysetCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<SurveyResponse> rows;
+        if (after == null) {
+            rows = surveyResponseRepository.findFirstPageOrderByStartTime(limit);
+        } else if (after.getTimestamp() == null) {
+            rows = surveyResponseRepository.findPageWithoutStartTimeAfter(after.getId(), limit);
+        } else {
+            rows = new ArrayList<>(surveyResponseRepository.findPageOrderByStartTimeAfter(after.getTimestamp(), after.getId(), limit));
+            // The timestamp range skips rows without a start time; they follow once the dated rows run out
+            if (rows.size() <= size) {
+                rows.addAll(surveyResponseRepository.findPageWithoutStartTimeAfter(Long.MAX_VALUE,
+                        PageRequest.of(0, size + 1 - rows.size())));
+            }
+        }
+        return CursorPageResponse.of(rows, size, r -> new KeysetCursor(r.getStartTime(), r.getId()));
+    }
+
     private String getVendorApiUrl(User vendor, SurveyStatus status) {
         switch (status) {
             case COMPLETE:
@@ -194,8 +268,11 @@ public class SurveyResponseController {
 
     public ResponseEntity<String> notifyVendorWithUid(User vendor, SurveyStatus status, String UID) {
         String vendorApiUrl = getVendorApiUrl(vendor, status);
+        Timer.Sample sample = metricsService.startTimer();
+        long startNanos = System.nanoTime();
 
         if (vendorApiUrl == null) {
+            recordPostback(sample, UID, status, "not_configured", startNanos, null);
             return ResponseEntity
                     .status(HttpStatus.BAD_REQUEST)
                     .body("No Vendor Redirects configured for status: " + status);
@@ -210,14 +287,28 @@ public class SurveyResponseController {
 
             UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(vendorApiUrl);
             ResponseEntity<String> response = restTemplate.getForEntity(builder.toUriString(), String.class);
+            recordPostback(sample, UID, status, "success", startNanos,
+                    Collections.singletonMap("httpStatus", String.valueOf(response.getStatusCodeValue())));
 
             return ResponseEntity.ok("Vendor notified successfully: " + response.getBody());
 
         } catch (Exception e) {
+            recordPostback(sample, UID, status, "failure", startNanos,
+                    Collections.singletonMap("error", e.getClass().getSimpleName()));
             return ResponseEntity
                     .status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Failed to notify vendor: " + e.getMessage());
         }
     }
 
+    private void recordPostback(Timer.Sample sample, String UID, SurveyStatus status, String outcome,
+                                long startNanos, Map<String, String> details) {
+        metricsService.recordPostback(sample, status, outcome);
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("status", status.name());
+        if (details != null) {
+            attributes.putAll(details);
+        }
+        journeyTraceService.record(UID, JourneyTraceService.STAGE_POSTBACK, outcome, startNanos, attributes);
+    }
 }
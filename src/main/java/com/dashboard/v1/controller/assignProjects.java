@@ -2,8 +2,10 @@ package com.dashboard.v1.controller;
 
 import com.dashboard.v1.entity.*;
 import com.dashboard.v1.model.request.AssignProjectRequest;
+import com.dashboard.v1.model.response.ProjectSummaryResponse;
 import com.dashboard.v1.repository.ProjectRepository;
 import com.dashboard.v1.repository.UserRepository;
+import com.dashboard.v1.service.ProjectAssignmentService;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.Hibernate;
 import org.slf4j.Logger;
@@ -27,6 +29,7 @@ public class assignProjects {
 
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final ProjectAssignmentService projectAssignmentService;
 
     // Get all vendors and projects
     @GetMapping("/vendors-projects")
@@ -43,9 +46,9 @@ public class assignProjects {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
             }
 
-            // Use findAllWithClient to eagerly load client relationships
-            logger.info("Fetching active projects with client relationships");
-            List<Project> availableForAssign = projectRepository.findAllWithClient(ProjectStatus.ACTIVE);
+            // Scalar projection: the picker only needs identifiers, not links, vendor lists or quota
+            logger.info("Fetching active projects");
+            List<ProjectSummaryResponse> availableForAssign = projectRepository.findSummariesByStatus(ProjectStatus.ACTIVE);
 
             List<User> vendorNotHidden = vendors.get().stream()
                     .filter(v -> v.getIsShown() == IsRemoved.show)
@@ -79,45 +82,8 @@ public class assignProjects {
             List<User> vendors = vendorOpt.get().stream().filter(vendor -> vendor.getIsShown() == IsRemoved.show)
                     .collect(Collectors.toList());
 
-            vendors.forEach(vendor -> {
-                // Get vendor's existing projects - initialize if null
-                // Must ensure this is effectively final for lambda
-                if (vendor.getProjectsId() == null) {
-                    vendor.setProjectsId(new ArrayList<>());
-                }
-                final List<String> existingProjects = vendor.getProjectsId();
-
-                // Track only NEW projects to be added
-                List<String> newProjectsToAdd = new ArrayList<>();
-                List<String> selectedProjects = request.getProjectIds();
-
-                selectedProjects.forEach(projectId -> {
-                    // Use the safe query that doesn't load client (we don't need it here)
-                    Optional<Project> optionalProject = projectRepository.findByProjectIdentifierWithoutClient(projectId);
-
-                    // Only add if project exists, is active, and vendor doesn't already have it
-                    if (optionalProject.isPresent() && optionalProject.get().getStatus() == ProjectStatus.ACTIVE) {
-                        Project project = optionalProject.get();
-
-                        List<String> vendorsOfProject = project.getVendorsUsername();
-                        if (vendorsOfProject == null) {
-                            vendorsOfProject = new ArrayList<>();
-                        }
-
-                        if (!vendorsOfProject.contains(vendor.getUsername())) {
-                            vendorsOfProject.add(vendor.getUsername());
-                            project.setVendorsUsername(vendorsOfProject);
-                            projectRepository.save(project);
-                            // Add to NEW projects list only
-                            newProjectsToAdd.add(projectId);
-                        }
-                    }
-                });
-
-                // Add only the NEW projects to vendor's existing list
-                existingProjects.addAll(newProjectsToAdd);
-                userRepository.save(vendor);
-            });
+            // Only missing (project, vendor) pairs are written, as JDBC batches
+            projectAssignmentService.assignProjectsToVendors(vendors, request.getProjectIds());
 
             return ResponseEntity.ok("Projects assigned successfully!");
         } catch (Exception e) {
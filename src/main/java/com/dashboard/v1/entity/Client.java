@@ -2,6 +2,8 @@ package com.dashboard.v1.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.List;
@@ -9,11 +11,14 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "client")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "client")
 @Getter
 @Setter
 public class Client {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "client_seq")
+    @SequenceGenerator(name = "client_seq", sequenceName = "client_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -29,6 +34,7 @@ public class Client {
     private String token;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "client.projects")
     @CollectionTable(name = "client_projects", joinColumns = @JoinColumn(name = "client_id"))
     @Column(name = "project_identifier")
     private List<String> projects;
@@ -6,12 +6,14 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 
 @Entity
 @Data
 public class IpToCountry {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ip_to_country_seq")
+    @SequenceGenerator(name = "ip_to_country_seq", sequenceName = "ip_to_country_seq", allocationSize = 50)
     private Long id;
 
     private Long ipStart;     // Store as long (numeric IPv4)
@@ -0,0 +1,36 @@
+package com.dashboard.v1.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.*;
+
+/**
+ * Persisted length-of-interview histogram for one project or vendor and one final survey status.
+ */
+@Entity
+@Table(name = "loi_histogram",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"scope", "scope_key", "status"}))
+@Getter
+@Setter
+public class LoiHistogram {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loi_histogram_seq")
+    @SequenceGenerator(name = "loi_histogram_seq", sequenceName = "loi_histogram_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false)
+    private SketchScope scope;
+
+    @Column(name = "scope_key", nullable = false)
+    private String scopeKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private SurveyStatus status;
+
+    @Column(name = "buckets", nullable = false, length = 1024)
+    private byte[] buckets;
+}
@@ -1,18 +1,29 @@
 package com.dashboard.v1.entity;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.List;
 
+// Quota text is stored separately in ProjectQuota so the row read on the click path stays small;
+// survey counters live in ProjectCounters so callbacks never write (and evict) a cached project
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_project_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_project_created_at", columnList = "created_at")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project")
 @Getter
 @Setter
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_seq")
+    @SequenceGenerator(name = "project_seq", sequenceName = "project_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -24,30 +35,14 @@ public class Project {
     @Enumerated(EnumType.STRING)
     private ProjectStatus status = ProjectStatus.ACTIVE;
 
-    private Long complete = 0L;
-
-    private Long terminate = 0L;
-
-    private Long quotafull = 0L;
-
-    private Long securityTerminate = 0L;
-
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project.countryLinks")
     @CollectionTable(name = "project_country_links", joinColumns = @JoinColumn(name = "project_id"))
-    private List<CountryLink> countryLinks; // List of country-link pairs
-
-    @ElementCollection
-    @CollectionTable(name = "project_vendors_username", joinColumns = @JoinColumn(name = "project_id"))
-    @Column(name = "vendor_username")
-    private List<String> vendorsUsername;
+    private List<CountryLink> countryLinks; // List of country-link pairs, loaded lazily
 
     private String loi;
     private String ir;
 
-    @Lob
-    @Column(length = 100000)
-    private String quota;
-
     private Long counts;
 
     private String cpi;
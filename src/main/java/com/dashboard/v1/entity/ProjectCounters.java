@@ -0,0 +1,39 @@
+package com.dashboard.v1.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+
+/**
+ * Running survey counters of a project, one row per project. Kept apart from Project because every
+ * callback bumps them; an update on project would evict its second-level cache regions each time.
+ */
+@Entity
+@Table(name = "project_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProjectCounters {
+
+    @Id
+    @Column(name = "project_id")
+    private String projectId;
+
+    @Column(nullable = false)
+    private long complete;
+
+    @Column(nullable = false)
+    private long terminate;
+
+    @Column(nullable = false)
+    private long quotafull;
+
+    @Column(nullable = false)
+    private long securityTerminate;
+
+    public ProjectCounters(String projectId) {
+        this.projectId = projectId;
+    }
+}
@@ -0,0 +1,32 @@
+package com.dashboard.v1.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+
+/**
+ * Quota text of a project (up to 100,000 characters), stored apart from Project so that the
+ * project row read on the click and counter paths stays small. Only the details view loads it.
+ */
+@Entity
+@Table(name = "project_quota")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProjectQuota {
+
+    @Id
+    @Column(name = "project_id")
+    private String projectId;
+
+    @Lob
+    @Column(length = 100000)
+    private String quota;
+
+    public ProjectQuota(String projectId, String quota) {
+        this.projectId = projectId;
+        this.quota = quota;
+    }
+}
@@ -0,0 +1,39 @@
+package com.dashboard.v1.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One project assigned to one vendor. The primary key (project_id, vendor_username) serves
+ * "vendors of project" lookups and the secondary index serves "projects of vendor", so each
+ * assignment change is a single-row insert or delete.
+ */
+@Entity
+@Table(name = "project_vendor_assignment",
+        indexes = @Index(name = "idx_pva_vendor_project", columnList = "vendor_username, project_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProjectVendorAssignment {
+
+    @EmbeddedId
+    private ProjectVendorAssignmentId id;
+
+    @Column(name = "assigned_at", nullable = false)
+    private LocalDateTime assignedAt;
+
+    public ProjectVendorAssignment(String projectId, String vendorUsername) {
+        this.id = new ProjectVendorAssignmentId(projectId, vendorUsername);
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (assignedAt == null) {
+            assignedAt = LocalDateTime.now();
+        }
+    }
+}
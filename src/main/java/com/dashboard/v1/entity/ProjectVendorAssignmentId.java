@@ -0,0 +1,26 @@
+package com.dashboard.v1.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class ProjectVendorAssignmentId implements Serializable {
+
+    @Column(name = "project_id", nullable = false)
+    private String projectId;  // Project.projectIdentifier
+
+    @Column(name = "vendor_username", nullable = false)
+    private String vendorUsername;  // User.username
+}
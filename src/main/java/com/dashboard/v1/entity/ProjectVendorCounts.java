@@ -12,7 +12,8 @@ import javax.persistence.*;
 public class ProjectVendorCounts {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_vendor_counts_seq")
+    @SequenceGenerator(name = "project_vendor_counts_seq", sequenceName = "project_vendor_counts_seq", allocationSize = 50)
     private Long id;
 
     private String vendorUsername;
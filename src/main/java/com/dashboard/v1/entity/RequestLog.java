@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class RequestLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "request_log_seq")
+    @SequenceGenerator(name = "request_log_seq", sequenceName = "request_log_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "request_id", unique = true, nullable = false)
@@ -59,7 +60,9 @@ public class RequestLog {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
     }
 }
 
@@ -0,0 +1,6 @@
+package com.dashboard.v1.entity;
+
+public enum SketchScope {
+    PROJECT,
+    VENDOR
+}
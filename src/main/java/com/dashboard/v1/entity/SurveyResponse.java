@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 public class SurveyResponse {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "survey_response_seq")
+    @SequenceGenerator(name = "survey_response_seq", sequenceName = "survey_response_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,36 @@
+package com.dashboard.v1.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Persisted HyperLogLog registers of the distinct click IPs seen for one project or vendor on one day.
+ */
+@Entity
+@Table(name = "unique_ip_sketch",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"scope", "scope_key", "sketch_day"}))
+@Getter
+@Setter
+public class UniqueIpSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "unique_ip_sketch_seq")
+    @SequenceGenerator(name = "unique_ip_sketch_seq", sequenceName = "unique_ip_sketch_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false)
+    private SketchScope scope;
+
+    @Column(name = "scope_key", nullable = false)
+    private String scopeKey;
+
+    @Column(name = "sketch_day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "registers", nullable = false, length = 4096)
+    private byte[] registers;
+}
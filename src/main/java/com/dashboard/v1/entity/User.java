@@ -2,13 +2,16 @@ package com.dashboard.v1.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
-import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Getter
 @Setter
 @Builder
@@ -16,7 +19,8 @@ import java.util.UUID;
 @NoArgsConstructor
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -57,11 +61,6 @@ public class User {
         }
     }
 
-    @ElementCollection
-    @CollectionTable(name = "user_projects", joinColumns = @JoinColumn(name = "user_id"))
-    @Column(name = "project_id")
-    private List<String> projectsId;
-
     @Enumerated(EnumType.STRING)
     private IsRemoved isShown = IsRemoved.show;
 
@@ -4,6 +4,7 @@ import javax.persistence.Entity;  // ✅ Use Java EE for Java 8
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -14,7 +15,8 @@ import lombok.Setter;
 public class VendorProjectLink {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vendor_project_link_seq")
+    @SequenceGenerator(name = "vendor_project_link_seq", sequenceName = "vendor_project_link_seq", allocationSize = 50)
     private Long id;
 
     // A unique token which will be part of the generated URL.
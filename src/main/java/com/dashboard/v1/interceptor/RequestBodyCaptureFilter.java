@@ -0,0 +1,247 @@
+package com.dashboard.v1.interceptor;
+
+import com.dashboard.v1.model.request.AuthRequest;
+import com.dashboard.v1.model.request.ChangePasswordRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Captures at most app.request-log.max-body-bytes of textual request bodies for the request log.
+ * The body is copied as the application reads it, so nothing is buffered up front and a large
+ * upload costs no more than the cap. Multipart and binary bodies are not captured, and password
+ * fields of {@link AuthRequest} and {@link ChangePasswordRequest} are masked.
+ * {@link RequestLoggingInterceptor} reads the result once the handler has consumed the body.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestBodyCaptureFilter extends OncePerRequestFilter {
+
+    private static final Set<String> CAPTURED_METHODS = new HashSet<>(Arrays.asList("POST", "PUT", "PATCH", "DELETE"));
+    private static final String TRUNCATED_MARKER = "...[truncated]";
+    private static final String REDACTED = "***";
+
+    private static final Set<String> PASSWORD_FIELDS = passwordFields(AuthRequest.class, ChangePasswordRequest.class);
+    // "field": "value" in JSON, also when the body was cut off inside the value
+    private static final Pattern JSON_PASSWORD = Pattern.compile(
+            "(\"(?:" + String.join("|", PASSWORD_FIELDS) + ")\"\\s*:\\s*)\"(?:[^\"\\\\]|\\\\.)*(?:\"|$)");
+    // field=value in a urlencoded body, up to the next & or the end of the (possibly truncated) body
+    private static final Pattern FORM_PASSWORD = Pattern.compile(
+            "((?:^|&)(?:" + String.join("|", PASSWORD_FIELDS) + ")=)[^&]*");
+
+    private final int maxBytes;
+
+    public RequestBodyCaptureFilter(@Value("${app.request-log.max-body-bytes:1000}") int maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (maxBytes > 0 && CAPTURED_METHODS.contains(request.getMethod()) && isTextual(request.getContentType())) {
+            filterChain.doFilter(new CapturingRequestWrapper(request, maxBytes), response);
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private static boolean isTextual(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String type = contentType.toLowerCase(Locale.ROOT);
+        return type.startsWith("text/")
+                || isForm(type)
+                || type.contains("json")
+                || type.contains("xml");
+    }
+
+    private static boolean isForm(String contentType) {
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("application/x-www-form-urlencoded");
+    }
+
+    private static Set<String> passwordFields(Class<?>... types) {
+        Set<String> fields = new TreeSet<>();
+        for (Class<?> type : types) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.getName().toLowerCase(Locale.ROOT).contains("password")) {
+                    fields.add(field.getName());
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Request whose body is copied, up to a byte limit, as it is read.
+     */
+    public static class CapturingRequestWrapper extends HttpServletRequestWrapper {
+
+        private final int maxBytes;
+        private final ByteArrayOutputStream captured;
+        private boolean truncated;
+        private ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        CapturingRequestWrapper(HttpServletRequest request, int maxBytes) {
+            super(request);
+            this.maxBytes = maxBytes;
+            this.captured = new ByteArrayOutputStream(Math.min(maxBytes, 256));
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new TeeInputStream(super.getInputStream());
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), charset()));
+            }
+            return reader;
+        }
+
+        /**
+         * The captured body with passwords masked, or null if nothing was read. Form posts read
+         * through getParameter() bypass the stream, so they are rebuilt from the parameters.
+         * Form bodies read from the stream (FormContentFilter, {@code @RequestBody MultiValueMap})
+         * are masked like the rebuilt ones.
+         */
+        public String getCapturedBody() {
+            boolean form = isForm(getContentType());
+            String body;
+            if (captured.size() > 0) {
+                body = new String(captured.toByteArray(), charset());
+                body = form ? FORM_PASSWORD.matcher(body).replaceAll("$1" + REDACTED)
+                        : JSON_PASSWORD.matcher(body).replaceAll("$1\"" + REDACTED + "\"");
+            } else if (form) {
+                body = formBody();
+            } else {
+                return null;
+            }
+            if (body.isEmpty()) {
+                return null;
+            }
+            return truncated ? body + TRUNCATED_MARKER : body;
+        }
+
+        // Stops appending once the cap is reached, so a large form costs no more than the cap
+        private String formBody() {
+            StringBuilder body = new StringBuilder(Math.min(maxBytes, 256));
+            for (Map.Entry<String, String[]> entry : getParameterMap().entrySet()) {
+                for (String value : entry.getValue()) {
+                    if (!(body.length() == 0 || append(body, "&"))
+                            || !append(body, entry.getKey() + "=")
+                            || !append(body, PASSWORD_FIELDS.contains(entry.getKey()) ? REDACTED : value)) {
+                        return body.toString();
+                    }
+                }
+            }
+            return body.toString();
+        }
+
+        private boolean append(StringBuilder body, String text) {
+            int room = maxBytes - body.length();
+            if (text.length() > room) {
+                body.append(text, 0, room);
+                truncated = true;
+                return false;
+            }
+            body.append(text);
+            return true;
+        }
+
+        private Charset charset() {
+            String encoding = getCharacterEncoding();
+            try {
+                return encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            } catch (IllegalArgumentException e) {
+                return StandardCharsets.UTF_8;
+            }
+        }
+
+        private void capture(int b) {
+            if (captured.size() < maxBytes) {
+                captured.write(b);
+            } else {
+                truncated = true;
+            }
+        }
+
+        private void capture(byte[] bytes, int offset, int length) {
+            int room = maxBytes - captured.size();
+            if (length > room) {
+                truncated = true;
+            }
+            if (room > 0) {
+                captured.write(bytes, offset, Math.min(room, length));
+            }
+        }
+
+        private class TeeInputStream extends ServletInputStream {
+
+            private final ServletInputStream delegate;
+
+            TeeInputStream(ServletInputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public int read() throws IOException {
+                int b = delegate.read();
+                if (b != -1) {
+                    capture(b);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) throws IOException {
+                int count = delegate.read(bytes, offset, length);
+                if (count > 0) {
+                    capture(bytes, offset, count);
+                }
+                return count;
+            }
+
+            @Override
+            public boolean isFinished() {
+                return delegate.isFinished();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                delegate.setReadListener(readListener);
+            }
+        }
+    }
+}
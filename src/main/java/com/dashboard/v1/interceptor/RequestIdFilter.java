@@ -0,0 +1,41 @@
+package com.dashboard.v1.interceptor;
+
+import com.dashboard.v1.util.RequestIdGenerator;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Assigns the request id before any other filter runs: stored as the "requestId" request
+ * attribute (picked up by {@link RequestLoggingInterceptor}), put in the SLF4J MDC for every
+ * log line of the request and returned to the caller as X-Request-Id.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String REQUEST_ID_ATTRIBUTE = "requestId";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String requestId = RequestIdGenerator.next();
+        request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
+        response.setHeader(RequestIdGenerator.HEADER, requestId);
+        MDC.put(RequestIdGenerator.MDC_KEY, requestId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(RequestIdGenerator.MDC_KEY);
+        }
+    }
+}
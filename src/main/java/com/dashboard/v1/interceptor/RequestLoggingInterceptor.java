@@ -1,18 +1,24 @@
 package com.dashboard.v1.interceptor;
 
+import com.dashboard.v1.entity.RequestLog;
+import com.dashboard.v1.service.LatencyService;
+import com.dashboard.v1.service.RequestCounterService;
 import com.dashboard.v1.service.RequestLogService;
+import com.dashboard.v1.util.RequestIdGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
-import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.WebUtils;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class RequestLoggingInterceptor implements HandlerInterceptor {
@@ -22,38 +28,39 @@ public class RequestLoggingInterceptor implements HandlerInterceptor {
     @Autowired
     private RequestLogService requestLogService;
 
-    private static final String REQUEST_ID_ATTRIBUTE = "requestId";
+    @Autowired
+    private RequestCounterService requestCounterService;
+
+    @Autowired
+    private LatencyService latencyService;
+
+    private static final String REQUEST_ID_ATTRIBUTE = RequestIdFilter.REQUEST_ID_ATTRIBUTE;
     private static final String REQUEST_START_TIME_ATTRIBUTE = "requestStartTime";
+    private static final String REQUEST_LOG_ATTRIBUTE = "requestLog";
+    private static final String REQUEST_ADMIN_ATTRIBUTE = "requestByAdmin";
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        // Generate unique request ID
-        String requestId = java.util.UUID.randomUUID().toString();
-        request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
-        request.setAttribute(REQUEST_START_TIME_ATTRIBUTE, System.currentTimeMillis());
+        // Normally assigned by RequestIdFilter; generated here only if that filter did not run
+        String requestId = (String) request.getAttribute(REQUEST_ID_ATTRIBUTE);
+        if (requestId == null) {
+            requestId = RequestIdGenerator.next();
+            request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
+        }
+        request.setAttribute(REQUEST_START_TIME_ATTRIBUTE, System.nanoTime());
 
         // Get authenticated username
         String username = getAuthenticatedUsername();
+        request.setAttribute(REQUEST_ADMIN_ATTRIBUTE, isAdmin());
 
-        // Get request body for POST/PUT/DELETE requests
-        String requestBody = null;
-        if ("POST".equals(request.getMethod()) || "PUT".equals(request.getMethod()) || "DELETE".equals(request.getMethod())) {
-            try {
-                if (request instanceof ContentCachingRequestWrapper) {
-                    ContentCachingRequestWrapper wrapper = (ContentCachingRequestWrapper) request;
-                    byte[] content = wrapper.getContentAsByteArray();
-                    if (content.length > 0) {
-                        requestBody = new String(content, StandardCharsets.UTF_8);
-                    }
-                }
-            } catch (Exception e) {
-                logger.warn("Failed to read request body", e);
-            }
+        // Assemble the log record now; the body is attached and the record written once, when the request completes
+        try {
+            request.setAttribute(REQUEST_LOG_ATTRIBUTE,
+                    requestLogService.startRequestLog(requestId, request, username, null));
+        } catch (Exception e) {
+            logger.error("Failed to extract request data for logging", e);
         }
 
-        // Log request asynchronously - extract data first to avoid null issues
-        requestLogService.logRequestFromHttpServletRequest(requestId, request, username, requestBody);
-
         logger.info("Request started: {} {} - ID: {}", request.getMethod(), request.getRequestURI(), requestId);
 
         return true;
@@ -63,14 +70,25 @@ public class RequestLoggingInterceptor implements HandlerInterceptor {
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
         String requestId = (String) request.getAttribute(REQUEST_ID_ATTRIBUTE);
         Long startTime = (Long) request.getAttribute(REQUEST_START_TIME_ATTRIBUTE);
+        RequestLog requestLog = (RequestLog) request.getAttribute(REQUEST_LOG_ATTRIBUTE);
+
+        // Unhandled exceptions count as server errors even if no error status was set yet
+        int countedStatus = ex != null && response.getStatus() < 400 ? 500 : response.getStatus();
+        requestCounterService.record(request.getMethod() + " " + endpointPattern(request), countedStatus);
 
         if (requestId != null && startTime != null) {
-            long processingTime = System.currentTimeMillis() - startTime;
+            long elapsedNanos = System.nanoTime() - startTime;
+            latencyService.record(handlerName(request, handler), elapsedNanos);
+            long processingTime = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
             Integer responseStatus = response.getStatus();
             String errorMessage = ex != null ? ex.getMessage() : null;
 
-            // Update request log with completion details
-            requestLogService.updateRequestLog(requestId, responseStatus, errorMessage, processingTime);
+            // Complete the record and queue it for the batched writer
+            if (requestLog != null) {
+                requestLog.setRequestBody(capturedBody(request));
+                requestLogService.completeRequestLog(requestLog, responseStatus, errorMessage, processingTime,
+                        Boolean.TRUE.equals(request.getAttribute(REQUEST_ADMIN_ATTRIBUTE)));
+            }
 
             logger.info("Request completed: {} - Status: {} - Time: {}ms", requestId, responseStatus, processingTime);
 
@@ -82,6 +100,27 @@ public class RequestLoggingInterceptor implements HandlerInterceptor {
         }
     }
 
+    // Matched mapping such as /api/projects/{id}, so counters do not grow with every distinct URI
+    private String endpointPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNMAPPED";
+    }
+
+    // The handler has consumed the body by now, so the capture filter holds whatever was read
+    private String capturedBody(HttpServletRequest request) {
+        RequestBodyCaptureFilter.CapturingRequestWrapper wrapper =
+                WebUtils.getNativeRequest(request, RequestBodyCaptureFilter.CapturingRequestWrapper.class);
+        return wrapper != null ? wrapper.getCapturedBody() : null;
+    }
+
+    private String handlerName(HttpServletRequest request, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+        return endpointPattern(request);
+    }
+
     private String getAuthenticatedUsername() {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -93,5 +132,10 @@ public class RequestLoggingInterceptor implements HandlerInterceptor {
         }
         return null;
     }
-}
 
+    private boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+}
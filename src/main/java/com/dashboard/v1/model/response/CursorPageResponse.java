@@ -0,0 +1,29 @@
+package com.dashboard.v1.model.response;
+
+import com.dashboard.v1.util.KeysetCursor;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    /**
+     * Builds a page from a query that fetched {@code size + 1} rows; the extra row
+     * only signals that another page exists and is not returned.
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, KeysetCursor> cursorOf) {
+        boolean hasMore = rows.size() > size;
+        List<T> items = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(items.get(items.size() - 1)).encode() : null;
+        return new CursorPageResponse<>(items, nextCursor, hasMore);
+    }
+}
@@ -0,0 +1,18 @@
+package com.dashboard.v1.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// Response shape of the DataTables server-side processing protocol
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DataTablesResponse<T> {
+    private int draw;
+    private long recordsTotal;
+    private long recordsFiltered;
+    private List<T> data;
+}
@@ -0,0 +1,23 @@
+package com.dashboard.v1.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * One stage of a respondent's journey (landing page, click, callback, postback).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JourneySpan {
+    private String uid;
+    private String stage;
+    private String outcome;
+    private long startedAt;
+    private double durationMs;
+    private String requestId;
+    private Map<String, String> attributes;
+}
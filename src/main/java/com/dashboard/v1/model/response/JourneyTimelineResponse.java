@@ -0,0 +1,19 @@
+package com.dashboard.v1.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class JourneyTimelineResponse {
+    private String uid;
+    private List<JourneySpan> spans;
+    // Time spent on the external survey: end of the accepted click to the start of the callback
+    private Long externalSurveyMs;
+    private boolean callbackReceived;
+    private boolean postbackSucceeded;
+}
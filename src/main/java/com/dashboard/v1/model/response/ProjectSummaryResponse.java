@@ -0,0 +1,28 @@
+package com.dashboard.v1.model.response;
+
+import com.dashboard.v1.entity.ProjectStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Scalar project columns only: no country links, vendor list or quota text
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectSummaryResponse {
+    private Long id;
+    private String projectIdentifier;
+    private String projectIdentifierToken;
+    private ProjectStatus status;
+    private Long complete;
+    private Long terminate;
+    private Long quotafull;
+    private Long securityTerminate;
+    private Long counts;
+    private String loi;
+    private String ir;
+    private String cpi;
+    private LocalDateTime createdAt;
+}
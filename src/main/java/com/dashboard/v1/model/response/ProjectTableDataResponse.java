@@ -1,14 +1,12 @@
 package com.dashboard.v1.model.response;
 
 import com.dashboard.v1.entity.ProjectStatus;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public class ProjectTableDataResponse {
     private String projectIdentifier;
@@ -21,7 +19,21 @@ public class ProjectTableDataResponse {
     private List<String> vendorsUsername;
     private String loi;
     private String ir;
-    private String quota;
     private String cpi;
-}
 
+    // Used by the JPQL constructor expression in ProjectRepository; vendorsUsername is filled in afterwards
+    public ProjectTableDataResponse(String projectIdentifier, ProjectStatus status, Long complete, Long terminate,
+                                    Long quotafull, Long securityTerminate, Long counts,
+                                    String loi, String ir, String cpi) {
+        this.projectIdentifier = projectIdentifier;
+        this.status = status;
+        this.complete = complete;
+        this.terminate = terminate;
+        this.quotafull = quotafull;
+        this.securityTerminate = securityTerminate;
+        this.counts = counts;
+        this.loi = loi;
+        this.ir = ir;
+        this.cpi = cpi;
+    }
+}
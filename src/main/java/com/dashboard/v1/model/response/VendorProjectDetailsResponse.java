@@ -1,11 +1,24 @@
 package com.dashboard.v1.model.response;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class VendorProjectDetailsResponse {
     private String pid;
-    private String complete;
-    private String terminate;
-    private String quotafull;
+    private long complete;
+    private long terminate;
+    private long quotafull;
+    private long securityTerminate;
+
+    // Used by the JPQL constructor expression in ProjectVendorCountsRepository
+    public VendorProjectDetailsResponse(String pid, Integer complete, Integer terminate,
+                                        Integer quotafull, Integer securityTerminate) {
+        this.pid = pid;
+        this.complete = complete != null ? complete : 0;
+        this.terminate = terminate != null ? terminate : 0;
+        this.quotafull = quotafull != null ? quotafull : 0;
+        this.securityTerminate = securityTerminate != null ? securityTerminate : 0;
+    }
 }
@@ -2,6 +2,7 @@ package com.dashboard.v1.pages.controller;
 
 import com.dashboard.v1.repository.UserRepository;
 import com.dashboard.v1.service.CountryService;
+import com.dashboard.v1.service.JourneyTraceService;
 import com.dashboard.v1.service.VendorService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,7 +12,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 
 @Controller
@@ -26,6 +29,9 @@ public class PageController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private JourneyTraceService journeyTraceService;
+
     @GetMapping("/")
     public String home(Model model) {
         model.addAttribute("message", "Welcome to Spring Boot MVC with Java 8!");
@@ -107,13 +113,18 @@ public class PageController {
                                @RequestParam("PID") String pid,
                                @RequestParam("UID") String uid,
                                Model model) {
-
+        long startNanos = System.nanoTime();
 
         model.addAttribute("pid", pid);
         model.addAttribute("country", country);
         model.addAttribute("vendorToken", vendorToken);
         model.addAttribute("uid", uid);
 
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("pid", pid);
+        attributes.put("country", country);
+        journeyTraceService.record(uid, JourneyTraceService.STAGE_LANDING_PAGE, "rendered", startNanos, attributes);
+
         return "redirect-page"; // Redirects to vendor-info.html or vendor-info.jsp
     }
 
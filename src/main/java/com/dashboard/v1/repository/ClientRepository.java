@@ -1,16 +1,21 @@
 package com.dashboard.v1.repository;
 
+import com.dashboard.v1.config.HibernateCacheConfig;
 import com.dashboard.v1.entity.Client;
 import com.dashboard.v1.entity.IsRemoved;
 import com.dashboard.v1.entity.ProjectStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
 
 @Repository
 public interface ClientRepository extends JpaRepository<Client, Long> {
@@ -20,6 +25,8 @@ public interface ClientRepository extends JpaRepository<Client, Long> {
     @Query("SELECT c FROM Client c WHERE c.isShown = :status")
     List<Client> findAll(@Param("status") IsRemoved status);
 
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = HibernateCacheConfig.REFERENCE_QUERY_REGION)})
     @Query("SELECT c FROM Client c WHERE c.username = :username")
     Optional<Client> findByUsername(@Param("username") String username);
 
@@ -0,0 +1,24 @@
+package com.dashboard.v1.repository;
+
+import com.dashboard.v1.entity.LoiHistogram;
+import com.dashboard.v1.entity.SketchScope;
+import com.dashboard.v1.entity.SurveyStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LoiHistogramRepository extends JpaRepository<LoiHistogram, Long> {
+
+    @Query("SELECT h FROM LoiHistogram h WHERE h.scope = :scope AND h.scopeKey = :scopeKey AND h.status = :status")
+    Optional<LoiHistogram> findHistogram(@Param("scope") SketchScope scope,
+                                         @Param("scopeKey") String scopeKey,
+                                         @Param("status") SurveyStatus status);
+
+    @Query("SELECT h FROM LoiHistogram h WHERE h.scope = :scope AND h.scopeKey = :scopeKey")
+    List<LoiHistogram> findHistograms(@Param("scope") SketchScope scope, @Param("scopeKey") String scopeKey);
+}
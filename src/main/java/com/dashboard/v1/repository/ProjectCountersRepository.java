@@ -0,0 +1,49 @@
+package com.dashboard.v1.repository;
+
+import com.dashboard.v1.entity.ProjectCounters;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectCountersRepository extends JpaRepository<ProjectCounters, String> {
+
+    // Quota check on the click path reads only this column
+    @Query("SELECT c.complete FROM ProjectCounters c WHERE c.projectId = :projectId")
+    Optional<Long> findCompleteByProjectId(@Param("projectId") String projectId);
+
+    @Query("SELECT c FROM ProjectCounters c WHERE c.projectId IN :projectIds")
+    List<ProjectCounters> findByProjectIdIn(@Param("projectIds") Collection<String> projectIds);
+
+    // Survey callback counters: one UPDATE each, so concurrent callbacks for a project never lose an increment
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProjectCounters c SET c.complete = c.complete + 1 WHERE c.projectId = :projectId")
+    int incrementComplete(@Param("projectId") String projectId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProjectCounters c SET c.terminate = c.terminate + 1 WHERE c.projectId = :projectId")
+    int incrementTerminate(@Param("projectId") String projectId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProjectCounters c SET c.quotafull = c.quotafull + 1 WHERE c.projectId = :projectId")
+    int incrementQuotafull(@Param("projectId") String projectId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ProjectCounters c SET c.securityTerminate = c.securityTerminate + 1 WHERE c.projectId = :projectId")
+    int incrementSecurityTerminate(@Param("projectId") String projectId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectCounters c WHERE c.projectId = :projectId")
+    void deleteByProjectId(@Param("projectId") String projectId);
+}
@@ -0,0 +1,21 @@
+package com.dashboard.v1.repository;
+
+import com.dashboard.v1.entity.ProjectQuota;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProjectQuotaRepository extends JpaRepository<ProjectQuota, String> {
+
+    @Query("SELECT q.quota FROM ProjectQuota q WHERE q.projectId = :projectId")
+    Optional<String> findQuotaByProjectId(@Param("projectId") String projectId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectQuota q WHERE q.projectId = :projectId")
+    void deleteByProjectId(@Param("projectId") String projectId);
+}
@@ -1,22 +1,37 @@
 package com.dashboard.v1.repository;
 
+import com.dashboard.v1.config.HibernateCacheConfig;
 import com.dashboard.v1.entity.Project;
 import com.dashboard.v1.entity.ProjectStatus;
+import com.dashboard.v1.model.response.ProjectSummaryResponse;
+import com.dashboard.v1.model.response.ProjectTableDataResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = HibernateCacheConfig.REFERENCE_QUERY_REGION)})
     Optional<Project> findByProjectIdentifier(String pId);
 
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = HibernateCacheConfig.REFERENCE_QUERY_REGION)})
     Optional<Project> findByProjectIdentifierToken(String pId);
 
+    boolean existsByProjectIdentifier(String pId);
+
     // Fetch project without loading client relationship to avoid circular issues
     @Query("SELECT p FROM Project p WHERE p.projectIdentifier = :pId")
     Optional<Project> findByProjectIdentifierWithoutClient(@Param("pId") String pId);
@@ -29,5 +44,27 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query("SELECT p FROM Project p WHERE p.status = :status ORDER BY p.createdAt")
     List<Project> findAllWithClient(@Param("status") ProjectStatus status);
 
+    // Table columns only, newest first; skips all collections
+    @Query("SELECT new com.dashboard.v1.model.response.ProjectTableDataResponse(" +
+            "p.projectIdentifier, p.status, COALESCE(c.complete, 0L), COALESCE(c.terminate, 0L), " +
+            "COALESCE(c.quotafull, 0L), COALESCE(c.securityTerminate, 0L), p.counts, p.loi, p.ir, p.cpi) " +
+            "FROM Project p LEFT JOIN ProjectCounters c ON c.projectId = p.projectIdentifier " +
+            "ORDER BY p.createdAt DESC")
+    List<ProjectTableDataResponse> findTableData();
+
+    @Query("SELECT new com.dashboard.v1.model.response.ProjectSummaryResponse(" +
+            "p.id, p.projectIdentifier, p.projectIdentifierToken, p.status, COALESCE(c.complete, 0L), " +
+            "COALESCE(c.terminate, 0L), COALESCE(c.quotafull, 0L), COALESCE(c.securityTerminate, 0L), " +
+            "p.counts, p.loi, p.ir, p.cpi, p.createdAt) " +
+            "FROM Project p LEFT JOIN ProjectCounters c ON c.projectId = p.projectIdentifier " +
+            "WHERE p.status = :status ORDER BY p.createdAt")
+    List<ProjectSummaryResponse> findSummariesByStatus(@Param("status") ProjectStatus status);
+
+    // Batch lookup for listings: one IN query instead of one findByProjectIdentifier per project
+    @Query("SELECT p FROM Project p WHERE p.projectIdentifier IN :pIds")
+    List<Project> findByProjectIdentifierIn(@Param("pIds") Collection<String> pIds);
 
+    // Same as above with countryLinks join-fetched so links are not lazy-loaded per project
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.countryLinks WHERE p.projectIdentifier IN :pIds")
+    List<Project> findByProjectIdentifierInWithCountryLinks(@Param("pIds") Collection<String> pIds);
 }
@@ -0,0 +1,33 @@
+package com.dashboard.v1.repository;
+
+import com.dashboard.v1.entity.ProjectVendorAssignment;
+import com.dashboard.v1.entity.ProjectVendorAssignmentId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectVendorAssignmentRepository extends JpaRepository<ProjectVendorAssignment, ProjectVendorAssignmentId> {
+
+    @Query("SELECT a.id.vendorUsername FROM ProjectVendorAssignment a WHERE a.id.projectId = :projectId ORDER BY a.assignedAt")
+    List<String> findVendorUsernamesByProjectId(@Param("projectId") String projectId);
+
+    @Query("SELECT a.id.projectId FROM ProjectVendorAssignment a WHERE a.id.vendorUsername = :vendorUsername ORDER BY a.assignedAt")
+    List<String> findProjectIdsByVendorUsername(@Param("vendorUsername") String vendorUsername);
+
+    // Every (projectId, vendorUsername) pair in one query, for grouping vendor lists in memory
+    @Query("SELECT a.id.projectId, a.id.vendorUsername FROM ProjectVendorAssignment a ORDER BY a.assignedAt")
+    List<Object[]> findAllProjectVendorPairs();
+
+    @Query("SELECT a FROM ProjectVendorAssignment a WHERE a.id.projectId IN :projectIds")
+    List<ProjectVendorAssignment> findByProjectIdIn(@Param("projectIds") Collection<String> projectIds);
+
+    @Modifying
+    @Query("DELETE FROM ProjectVendorAssignment a WHERE a.id.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") String projectId);
+}
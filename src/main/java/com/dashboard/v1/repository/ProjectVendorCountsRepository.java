@@ -1,9 +1,14 @@
 package com.dashboard.v1.repository;
 
 import com.dashboard.v1.entity.ProjectVendorCounts;
+import com.dashboard.v1.model.response.VendorProjectDetailsResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,13 @@ public interface ProjectVendorCountsRepository extends JpaRepository<ProjectVend
 
     Optional<ProjectVendorCounts> findByVendorUsernameAndProjectId(String vendorUsername, String projectId);
 
+    @Query("SELECT c FROM ProjectVendorCounts c WHERE c.vendorUsername = :vendorUsername AND c.projectId IN :projectIds")
+    List<ProjectVendorCounts> findByVendorUsernameAndProjectIdIn(@Param("vendorUsername") String vendorUsername,
+                                                                @Param("projectIds") Collection<String> projectIds);
+
+    @Query("SELECT new com.dashboard.v1.model.response.VendorProjectDetailsResponse(" +
+            "c.projectId, c.completedSurveys, c.terminatedSurveys, c.quotaFullSurveys, c.securityTerminateSurveys) " +
+            "FROM ProjectVendorCounts c WHERE c.vendorUsername = :vendorUsername")
+    List<VendorProjectDetailsResponse> findProjectDetailsByVendorUsername(@Param("vendorUsername") String vendorUsername);
+
 }
@@ -1,8 +1,10 @@
 package com.dashboard.v1.repository;
 
 import com.dashboard.v1.entity.RequestLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -26,5 +28,28 @@ public interface RequestLogRepository extends JpaRepository<RequestLog, Long> {
 
     @Query("SELECT r FROM RequestLog r WHERE r.username = :username ORDER BY r.createdAt DESC")
     List<RequestLog> findByUsernameOrderByCreatedAtDesc(String username);
+
+    // Keyset pagination on (created_at, id): first page, then every row strictly after the cursor.
+    // The redundant createdAt <= bound gives the planner an index range instead of an OR.
+    @Query("SELECT r FROM RequestLog r WHERE r.isSuccessful = false ORDER BY r.createdAt DESC, r.id DESC")
+    List<RequestLog> findFailedFirstPage(Pageable pageable);
+
+    @Query("SELECT r FROM RequestLog r WHERE r.isSuccessful = false " +
+            "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RequestLog> findFailedPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Query("SELECT r FROM RequestLog r WHERE r.username = :username ORDER BY r.createdAt DESC, r.id DESC")
+    List<RequestLog> findByUsernameFirstPage(@Param("username") String username, Pageable pageable);
+
+    @Query("SELECT r FROM RequestLog r WHERE r.username = :username " +
+            "AND r.createdAt <= :createdAt AND (r.createdAt < :createdAt OR r.id < :id) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    List<RequestLog> findByUsernamePageAfter(@Param("username") String username,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
 }
 
@@ -1,13 +1,22 @@
 package com.dashboard.v1.repository;
 
 
+import com.dashboard.v1.config.HibernateCacheConfig;
 import com.dashboard.v1.entity.SecurityTerminateFlag;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
+
 @Repository
 public interface SecurityTerminateFlagRepository extends JpaRepository<SecurityTerminateFlag, Long> {
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = HibernateCacheConfig.REFERENCE_QUERY_REGION)})
     @Query("select st from SecurityTerminateFlag st where st.projectId = :projectId")
     SecurityTerminateFlag findByProjectId(String projectId);
 }
@@ -28,7 +28,26 @@ public interface SurveyResponseRepository extends JpaRepository<SurveyResponse,
     @Query("SELECT s FROM SurveyResponse s WHERE s.ipAddress = :ipAddress AND s.projectId = :projectId")
     List<SurveyResponse> findByIpAddress(String ipAddress, String projectId);
 
+    @Query("SELECT COUNT(s) FROM SurveyResponse s WHERE s.projectId = :projectId AND s.status = :status")
+    long countByProjectIdAndStatus(@Param("projectId") String projectId, @Param("status") SurveyStatus status);
+
     @Query("SELECT s FROM SurveyResponse s order by s.startTime desc")
     List<SurveyResponse> findAllOrderByCreatedAt();
 
+    // Keyset pagination on (start_time, id): first page, then every row strictly after the cursor.
+    // The redundant startTime <= bound gives the planner an index range instead of an OR.
+    @Query("SELECT s FROM SurveyResponse s ORDER BY s.startTime DESC, s.id DESC")
+    List<SurveyResponse> findFirstPageOrderByStartTime(Pageable pageable);
+
+    @Query("SELECT s FROM SurveyResponse s WHERE s.startTime <= :startTime " +
+            "AND (s.startTime < :startTime OR s.id < :id) " +
+            "ORDER BY s.startTime DESC, s.id DESC")
+    List<SurveyResponse> findPageOrderByStartTimeAfter(@Param("startTime") LocalDateTime startTime,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+
+    // Rows without a start time sort last (NULL is lowest on H2 and MySQL) and are paged by id alone
+    @Query("SELECT s FROM SurveyResponse s WHERE s.startTime IS NULL AND s.id < :id ORDER BY s.id DESC")
+    List<SurveyResponse> findPageWithoutStartTimeAfter(@Param("id") Long id, Pageable pageable);
+
 }
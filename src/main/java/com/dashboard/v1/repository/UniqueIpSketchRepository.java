@@ -0,0 +1,28 @@
+package com.dashboard.v1.repository;
+
+import com.dashboard.v1.entity.SketchScope;
+import com.dashboard.v1.entity.UniqueIpSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UniqueIpSketchRepository extends JpaRepository<UniqueIpSketch, Long> {
+
+    @Query("SELECT s FROM UniqueIpSketch s WHERE s.scope = :scope AND s.scopeKey = :scopeKey AND s.day = :day")
+    Optional<UniqueIpSketch> findSketch(@Param("scope") SketchScope scope,
+                                        @Param("scopeKey") String scopeKey,
+                                        @Param("day") LocalDate day);
+
+    @Query("SELECT s FROM UniqueIpSketch s WHERE s.scope = :scope AND s.scopeKey = :scopeKey " +
+            "AND s.day BETWEEN :startDay AND :endDay")
+    List<UniqueIpSketch> findSketchesBetween(@Param("scope") SketchScope scope,
+                                             @Param("scopeKey") String scopeKey,
+                                             @Param("startDay") LocalDate startDay,
+                                             @Param("endDay") LocalDate endDay);
+}
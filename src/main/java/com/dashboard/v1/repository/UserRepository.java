@@ -1,27 +1,40 @@
 package com.dashboard.v1.repository;
 
 
+import com.dashboard.v1.config.HibernateCacheConfig;
 import com.dashboard.v1.entity.Role;
 import com.dashboard.v1.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = HibernateCacheConfig.REFERENCE_QUERY_REGION)})
     Optional<User> findByUsername(String username);
     Optional<List<User>> findByRole(Role role);
     boolean existsByUsername(String username);
     @Query("SELECT u FROM User u WHERE u.role = 'VENDOR' and u.isShown = 'show'")
     List<User> findAllVendors();
 
+    @QueryHints({@QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = HibernateCacheConfig.REFERENCE_QUERY_REGION)})
     @Query("SELECT u FROM User u WHERE u.userToken = :token")
     Optional<User> findByToken(@Param("token") String token);
 
     Optional<List<User>> findByIdIn(List<Long> ids);
 
+    @Query("SELECT u FROM User u WHERE u.username IN :usernames")
+    List<User> findByUsernameIn(@Param("usernames") Collection<String> usernames);
+
 
 }
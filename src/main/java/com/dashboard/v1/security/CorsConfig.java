@@ -16,6 +16,7 @@ public class CorsConfig {
                         .allowedOrigins("http://localhost:63342", "http://127.0.0.1:5500") // Change this to match your frontend origin
                         .allowedMethods("GET", "POST", "PUT", "DELETE")
                         .allowedHeaders("*")
+                        .exposedHeaders("X-Request-Id")
                         .allowCredentials(true);
             }
         };
@@ -1,6 +1,8 @@
 package com.dashboard.v1.security;
 
 import com.dashboard.v1.service.CustomUserDetailsService;
+import com.dashboard.v1.util.RequestIdGenerator;
+import org.slf4j.MDC;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -32,7 +34,16 @@ public class SecurityConfig {
 
     @Bean
     public RestTemplate restTemplate() {
-        return new RestTemplate();
+        RestTemplate restTemplate = new RestTemplate();
+        // Send the current request id with outbound calls (vendor postbacks) so both sides can be correlated
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            String requestId = MDC.get(RequestIdGenerator.MDC_KEY);
+            if (requestId != null) {
+                request.getHeaders().set(RequestIdGenerator.HEADER, requestId);
+            }
+            return execution.execute(request, body);
+        });
+        return restTemplate;
     }
 
     @Bean
@@ -0,0 +1,62 @@
+package com.dashboard.v1.service;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Per-region hit/miss counts of the Hibernate second-level and query caches, read from
+ * Hibernate statistics (enabled by app.cache.statistics).
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public Map<String, Object> getCacheStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : new TreeSet<>(Arrays.asList(statistics.getSecondLevelCacheRegionNames()))) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            Map<String, Object> regionStats = new LinkedHashMap<>();
+            regionStats.put("hitCount", region.getHitCount());
+            regionStats.put("missCount", region.getMissCount());
+            regionStats.put("putCount", region.getPutCount());
+            regionStats.put("hitRatio", hitRatio(region.getHitCount(), region.getMissCount()));
+            regionStats.put("elementCountInMemory", region.getElementCountInMemory());
+            regions.put(regionName, regionStats);
+        }
+
+        Map<String, Object> queryCache = new LinkedHashMap<>();
+        queryCache.put("hitCount", statistics.getQueryCacheHitCount());
+        queryCache.put("missCount", statistics.getQueryCacheMissCount());
+        queryCache.put("putCount", statistics.getQueryCachePutCount());
+        queryCache.put("hitRatio", hitRatio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("secondLevelCacheHitRatio",
+                hitRatio(statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount()));
+        result.put("queryCache", queryCache);
+        result.put("regions", regions);
+        return result;
+    }
+
+    private static double hitRatio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0 : Math.round(hits * 1000.0 / total) / 1000.0;
+    }
+}
@@ -3,6 +3,7 @@ package com.dashboard.v1.service;
 import com.dashboard.v1.AppProperties;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,8 +22,12 @@ public class IPInfoService {
 
 
     public final AppProperties appProperties;
+    private final MetricsService metricsService;
+
     public String getIPInfo(String ipAddress) {
         String apiUrl = "https://ipinfo.io/" + ipAddress + "?token=" + appProperties.getTokenForIPInfo();
+        Timer.Sample sample = metricsService.startTimer();
+        String outcome = "error";
         try {
             URL url = new URL(apiUrl);
             HttpURLConnection conn = (HttpURLConnection) url.openConnection();
@@ -49,14 +54,18 @@ public class IPInfoService {
 
             // Check if 'country' field exists
             if (root.has("country")) {
+                outcome = "found";
                 return root.get("country").asText(); // Return the value of country
             } else {
+                outcome = "not_found";
                 return null; // country not present
             }
 
         } catch (Exception e) {
             log.error("Error while fetching IP info", e);
             return null;
+        } finally {
+            metricsService.recordGeoLookup(sample, outcome);
         }
     }
 }
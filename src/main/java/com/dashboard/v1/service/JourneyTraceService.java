@@ -0,0 +1,201 @@
+package com.dashboard.v1.service;
+
+import com.dashboard.v1.model.response.JourneySpan;
+import com.dashboard.v1.model.response.JourneyTimelineResponse;
+import com.dashboard.v1.util.RequestIdGenerator;
+import com.dashboard.v1.util.StripedLruMap;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-UID respondent journey: landing page, /survey click, survey callback and vendor postback,
+ * each recorded as a span with its timing and outcome. Journeys are held in memory for the
+ * app.journey.max-uids most recently active UIDs, in a striped LRU map so requests for different
+ * UIDs do not share a lock.
+ *
+ * Only a click that stored a survey response opens a journey; later stages are recorded only for
+ * UIDs that already have one, so callbacks for unknown UIDs or made-up UIDs cannot evict real
+ * journeys. Landing pages are unauthenticated and come before the click, so their spans wait in a
+ * smaller pending map (app.journey.max-pending-uids) and join the journey when the click opens it.
+ *
+ * When app.journey.export-file is set, spans are
+ * also appended to that file as JSON lines by a scheduled flush; spans that do not fit the export
+ * queue are counted and skipped rather than slowing requests down.
+ */
+@Service
+public class JourneyTraceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JourneyTraceService.class);
+
+    public static final String STAGE_LANDING_PAGE = "LANDING_PAGE";
+    public static final String STAGE_CLICK = "CLICK";
+    public static final String STAGE_CALLBACK = "CALLBACK";
+    public static final String STAGE_POSTBACK = "POSTBACK";
+
+    private static final int MAX_SPANS_PER_UID = 32;
+    private static final int STRIPES = 64;
+
+    private final ObjectMapper objectMapper;
+    private final Path exportFile;
+    private final StripedLruMap<String, List<JourneySpan>> journeys;
+    private final StripedLruMap<String, List<JourneySpan>> pendingLandings;
+    private final BlockingQueue<JourneySpan> exportQueue;
+    private final AtomicLong exportDropped = new AtomicLong();
+
+    public JourneyTraceService(ObjectMapper objectMapper,
+                               @Value("${app.journey.max-uids:10000}") int maxUids,
+                               @Value("${app.journey.max-pending-uids:2000}") int maxPendingUids,
+                               @Value("${app.journey.export-file:}") String exportFile,
+                               @Value("${app.journey.export-queue-size:10000}") int exportQueueSize) {
+        this.objectMapper = objectMapper;
+        this.exportFile = exportFile.isEmpty() ? null : Paths.get(exportFile);
+        this.exportQueue = this.exportFile != null ? new ArrayBlockingQueue<>(exportQueueSize) : null;
+        this.journeys = new StripedLruMap<>(maxUids, STRIPES);
+        this.pendingLandings = new StripedLruMap<>(maxPendingUids, STRIPES);
+    }
+
+    /**
+     * Opens the journey of {@code uid}, or adds to it if it is already open, pulling in any landing
+     * page spans recorded before it.
+     *
+     * @param startNanos {@link System#nanoTime()} when the stage started
+     * @param attributes stage details such as pid or status; no tokens or personal data
+     */
+    public void start(String uid, String stage, String outcome, long startNanos, Map<String, String> attributes) {
+        if (uid == null || uid.isEmpty()) {
+            return;
+        }
+        List<JourneySpan> landings = pendingLandings.remove(uid);
+        JourneySpan span = span(uid, stage, outcome, startNanos, attributes);
+        journeys.compute(uid, ArrayList::new, spans -> {
+            if (landings != null) {
+                landings.forEach(landing -> add(spans, landing));
+            }
+            add(spans, span);
+        });
+        if (landings != null) {
+            landings.forEach(this::export);
+        }
+        export(span);
+    }
+
+    /**
+     * Adds a span to the journey of {@code uid} if one is open. Landing page spans for a UID
+     * without a journey are held as pending; other stages are dropped.
+     */
+    public void record(String uid, String stage, String outcome, long startNanos, Map<String, String> attributes) {
+        if (uid == null || uid.isEmpty()) {
+            return;
+        }
+        JourneySpan span = span(uid, stage, outcome, startNanos, attributes);
+        if (journeys.computeIfPresent(uid, spans -> add(spans, span))) {
+            export(span);
+        } else if (STAGE_LANDING_PAGE.equals(stage)) {
+            pendingLandings.compute(uid, ArrayList::new, spans -> add(spans, span));
+        }
+    }
+
+    public Optional<JourneyTimelineResponse> getTimeline(String uid) {
+        List<JourneySpan> spans = journeys.read(uid, ArrayList::new);
+        if (spans == null) {
+            return Optional.empty();
+        }
+        spans.sort(Comparator.comparingLong(JourneySpan::getStartedAt));
+
+        Long externalSurveyMs = null;
+        JourneySpan click = last(spans, STAGE_CLICK, "accepted");
+        JourneySpan callback = last(spans, STAGE_CALLBACK, null);
+        if (click != null && callback != null) {
+            long clickEnd = click.getStartedAt() + Math.round(click.getDurationMs());
+            externalSurveyMs = Math.max(0, callback.getStartedAt() - clickEnd);
+        }
+        return Optional.of(new JourneyTimelineResponse(uid, spans, externalSurveyMs,
+                callback != null, last(spans, STAGE_POSTBACK, "success") != null));
+    }
+
+    @Scheduled(fixedDelayString = "${app.journey.export-interval-ms:5000}")
+    public void export() {
+        if (exportQueue == null || exportQueue.isEmpty()) {
+            return;
+        }
+        List<JourneySpan> batch = new ArrayList<>();
+        exportQueue.drainTo(batch);
+        try {
+            if (exportFile.getParent() != null) {
+                Files.createDirectories(exportFile.getParent());
+            }
+        } catch (IOException e) {
+            logger.error("Cannot create journey export directory for {}", exportFile, e);
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(exportFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (JourneySpan span : batch) {
+                writer.write(objectMapper.writeValueAsString(span));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            logger.error("Failed to export {} journey spans to {}", batch.size(), exportFile, e);
+        }
+        long dropped = exportDropped.getAndSet(0);
+        if (dropped > 0) {
+            logger.warn("Journey export queue full, {} spans not exported", dropped);
+        }
+    }
+
+    @PreDestroy
+    public void exportOnShutdown() {
+        export();
+    }
+
+    private static JourneySpan span(String uid, String stage, String outcome, long startNanos, Map<String, String> attributes) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        return new JourneySpan(uid, stage, outcome,
+                System.currentTimeMillis() - TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                elapsedNanos / 1_000_000.0,
+                MDC.get(RequestIdGenerator.MDC_KEY),
+                attributes != null ? attributes : Collections.emptyMap());
+    }
+
+    private static void add(List<JourneySpan> spans, JourneySpan span) {
+        if (spans.size() >= MAX_SPANS_PER_UID) {
+            spans.remove(0);
+        }
+        spans.add(span);
+    }
+
+    private void export(JourneySpan span) {
+        if (exportQueue != null && !exportQueue.offer(span)) {
+            exportDropped.incrementAndGet();
+        }
+    }
+
+    private static JourneySpan last(List<JourneySpan> spans, String stage, String outcome) {
+        for (int i = spans.size() - 1; i >= 0; i--) {
+            JourneySpan span = spans.get(i);
+            if (span.getStage().equals(stage) && (outcome == null || outcome.equals(span.getOutcome()))) {
+                return span;
+            }
+        }
+        return null;
+    }
+}
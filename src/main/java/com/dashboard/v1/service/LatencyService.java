@@ -0,0 +1,134 @@
+package com.dashboard.v1.service;
+
+import com.dashboard.v1.util.LatencyHistogram;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Request latency per handler method in nanoseconds, rotated into one-minute intervals.
+ * Requests only increment atomic cumulative bucket counts; once a minute the difference since
+ * the previous rotation is stored as a sparse interval, keeping the last hour. A request racing
+ * a rotation lands in the next interval instead of being lost.
+ */
+@Service
+public class LatencyService {
+
+    public static final int[] WINDOW_MINUTES = {1, 5, 60};
+
+    private static final int RETAINED_INTERVALS = 60;
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99, 0.999};
+    private static final String[] QUANTILE_NAMES = {"p50Ms", "p95Ms", "p99Ms", "p999Ms"};
+
+    private final ConcurrentMap<String, HandlerLatency> handlers = new ConcurrentHashMap<>();
+
+    public void record(String handler, long nanos) {
+        handlers.computeIfAbsent(handler, key -> new HandlerLatency(System.currentTimeMillis()))
+                .cumulative.incrementAndGet(LatencyHistogram.bucketOf(nanos));
+    }
+
+    @Scheduled(fixedRate = 60_000)
+    public void rotate() {
+        long now = System.currentTimeMillis();
+        handlers.values().forEach(latency -> latency.rotate(now));
+    }
+
+    /**
+     * Per handler and window: request count, throughput per second and p50/p95/p99/p999 in milliseconds.
+     * A window of N minutes is the current partial minute plus the N-1 most recent full intervals.
+     */
+    public Map<String, Map<String, Map<String, Object>>> getLatencies() {
+        long now = System.currentTimeMillis();
+        Map<String, Map<String, Map<String, Object>>> result = new TreeMap<>();
+        handlers.forEach((handler, latency) -> {
+            Map<String, Map<String, Object>> windows = new LinkedHashMap<>();
+            for (int minutes : WINDOW_MINUTES) {
+                windows.put(minutes + "m", latency.summarize(now, minutes));
+            }
+            result.put(handler, windows);
+        });
+        return result;
+    }
+
+    private static final class HandlerLatency {
+        private final AtomicLongArray cumulative = new AtomicLongArray(LatencyHistogram.BUCKET_COUNT);
+        // Guarded by this: counts at the last rotation and the retained intervals, newest first
+        private final long[] rotatedCounts = new long[LatencyHistogram.BUCKET_COUNT];
+        private final Deque<Interval> intervals = new ArrayDeque<>();
+        private long rotatedAt;
+
+        HandlerLatency(long createdAt) {
+            this.rotatedAt = createdAt;
+        }
+
+        synchronized void rotate(long now) {
+            intervals.addFirst(new Interval(rotatedAt, delta(true)));
+            while (intervals.size() > RETAINED_INTERVALS) {
+                intervals.removeLast();
+            }
+            rotatedAt = now;
+        }
+
+        synchronized Map<String, Object> summarize(long now, int minutes) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            long[] live = delta(false);
+            for (int i = 0; i < live.length; i += 2) {
+                histogram.add((int) live[i], live[i + 1]);
+            }
+            long windowStart = rotatedAt;
+            Iterator<Interval> iterator = intervals.iterator();
+            for (int i = 1; i < minutes && iterator.hasNext(); i++) {
+                Interval interval = iterator.next();
+                for (int j = 0; j < interval.buckets.length; j += 2) {
+                    histogram.add((int) interval.buckets[j], interval.buckets[j + 1]);
+                }
+                windowStart = interval.start;
+            }
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            double seconds = Math.max(1, now - windowStart) / 1000.0;
+            summary.put("count", histogram.getTotalCount());
+            summary.put("throughputPerSecond", Math.round(histogram.getTotalCount() / seconds * 1000) / 1000.0);
+            for (int i = 0; i < QUANTILES.length; i++) {
+                summary.put(QUANTILE_NAMES[i], histogram.percentile(QUANTILES[i]) / 1_000_000.0);
+            }
+            return summary;
+        }
+
+        // Non-empty buckets since the last rotation as (bucket, count) pairs
+        private long[] delta(boolean advance) {
+            long[] pairs = new long[16];
+            int size = 0;
+            for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+                long current = cumulative.get(i);
+                long count = current - rotatedCounts[i];
+                if (count == 0) {
+                    continue;
+                }
+                if (size == pairs.length) {
+                    pairs = Arrays.copyOf(pairs, size * 2);
+                }
+                pairs[size++] = i;
+                pairs[size++] = count;
+                if (advance) {
+                    rotatedCounts[i] = current;
+                }
+            }
+            return Arrays.copyOf(pairs, size);
+        }
+    }
+
+    private static final class Interval {
+        private final long start;
+        private final long[] buckets;
+
+        Interval(long start, long[] buckets) {
+            this.start = start;
+            this.buckets = buckets;
+        }
+    }
+}
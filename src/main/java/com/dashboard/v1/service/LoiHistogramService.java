@@ -0,0 +1,138 @@
+package com.dashboard.v1.service;
+
+import com.dashboard.v1.entity.LoiHistogram;
+import com.dashboard.v1.entity.SketchScope;
+import com.dashboard.v1.entity.SurveyStatus;
+import com.dashboard.v1.repository.LoiHistogramRepository;
+import com.dashboard.v1.util.DurationHistogram;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Measured length of interview (survey start to callback) per project and per vendor, split by final status.
+ * Callbacks add into in-memory histograms; a scheduled flush moves those deltas into loi_histogram.
+ * Histogram counts are additive, so each live histogram is removed from the map atomically before
+ * it is persisted and a new one starts collecting.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoiHistogramService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoiHistogramService.class);
+
+    private final LoiHistogramRepository loiHistogramRepository;
+
+    private final ConcurrentMap<HistogramKey, DurationHistogram> pending = new ConcurrentHashMap<>();
+
+    public void recordInterview(String projectId, String vendorUsername, SurveyStatus status,
+                                LocalDateTime startTime, LocalDateTime endTime) {
+        if (startTime == null || endTime == null || status == SurveyStatus.IN_PROGRESS) {
+            return;
+        }
+        long seconds = Duration.between(startTime, endTime).getSeconds();
+        if (projectId != null) {
+            record(new HistogramKey(SketchScope.PROJECT, projectId, status), seconds);
+        }
+        if (vendorUsername != null) {
+            record(new HistogramKey(SketchScope.VENDOR, vendorUsername, status), seconds);
+        }
+    }
+
+    /**
+     * Persisted plus not-yet-flushed histograms for a project or vendor, keyed by final status.
+     */
+    public Map<SurveyStatus, DurationHistogram> getHistograms(SketchScope scope, String scopeKey) {
+        Map<SurveyStatus, DurationHistogram> result = new EnumMap<>(SurveyStatus.class);
+        for (LoiHistogram row : loiHistogramRepository.findHistograms(scope, scopeKey)) {
+            result.put(row.getStatus(), DurationHistogram.fromBytes(row.getBuckets()));
+        }
+        pending.forEach((key, live) -> {
+            if (key.scope == scope && key.scopeKey.equals(scopeKey)) {
+                DurationHistogram copy = new DurationHistogram();
+                synchronized (live) {
+                    copy.merge(live);
+                }
+                result.computeIfAbsent(key.status, s -> new DurationHistogram()).merge(copy);
+            }
+        });
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${app.loi.flush-interval-ms:60000}")
+    public void flush() {
+        List<HistogramKey> keys = new ArrayList<>(pending.keySet());
+        for (HistogramKey key : keys) {
+            DurationHistogram delta = pending.remove(key);
+            if (delta == null) {
+                continue;
+            }
+            try {
+                persist(key, delta);
+            } catch (Exception e) {
+                logger.error("Failed to flush LOI histogram {} {} {}", key.scope, key.scopeKey, key.status, e);
+                // Put the delta back so it is retried on the next flush
+                pending.merge(key, delta, (current, failed) -> {
+                    current.merge(failed);
+                    return current;
+                });
+            }
+        }
+        logger.debug("Flushed {} LOI histograms", keys.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void record(HistogramKey key, long seconds) {
+        // compute() runs atomically per key, so a record can never land in a histogram flush() already removed
+        pending.compute(key, (k, histogram) -> {
+            DurationHistogram target = histogram != null ? histogram : new DurationHistogram();
+            synchronized (target) {
+                target.record(seconds);
+            }
+            return target;
+        });
+    }
+
+    private void persist(HistogramKey key, DurationHistogram delta) {
+        LoiHistogram row = loiHistogramRepository.findHistogram(key.scope, key.scopeKey, key.status)
+                .orElseGet(() -> {
+                    LoiHistogram created = new LoiHistogram();
+                    created.setScope(key.scope);
+                    created.setScopeKey(key.scopeKey);
+                    created.setStatus(key.status);
+                    return created;
+                });
+        DurationHistogram merged = row.getBuckets() != null
+                ? DurationHistogram.fromBytes(row.getBuckets())
+                : new DurationHistogram();
+        merged.merge(delta);
+        row.setBuckets(merged.toBytes());
+        loiHistogramRepository.save(row);
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class HistogramKey {
+        private final SketchScope scope;
+        private final String scopeKey;
+        private final SurveyStatus status;
+    }
+}
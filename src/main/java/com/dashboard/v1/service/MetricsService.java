@@ -0,0 +1,69 @@
+package com.dashboard.v1.service;
+
+import com.dashboard.v1.entity.SurveyStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Meters for the survey hot paths. Hikari pool, executor and JVM GC meters are bound by
+ * Spring Boot's metrics auto-configuration; everything is scraped from /api/monitoring/metrics.
+ */
+@Service
+@RequiredArgsConstructor
+public class MetricsService {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param outcome accepted, or the reason the click was rejected (quota_full, country_mismatch, ...)
+     */
+    public void recordClick(String outcome) {
+        Counter.builder("survey.clicks")
+                .description("Vendor clicks on /survey by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * @param outcome recorded, or why the callback was ignored (unknown_uid, already_closed)
+     */
+    public void recordCallback(SurveyStatus status, String outcome) {
+        Counter.builder("survey.callbacks")
+                .description("Survey status callbacks by final status")
+                .tag("status", status.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public Timer.Sample startTimer() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * @param outcome success, failure or not_configured
+     */
+    public void recordPostback(Timer.Sample sample, SurveyStatus status, String outcome) {
+        sample.stop(Timer.builder("survey.postback")
+                .description("Vendor postback calls")
+                .tag("status", status.name())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * @param outcome found, not_found or error
+     */
+    public void recordGeoLookup(Timer.Sample sample, String outcome) {
+        sample.stop(Timer.builder("geo.lookup")
+                .description("IP to country lookups")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,81 @@
+package com.dashboard.v1.service;
+
+import com.dashboard.v1.entity.Project;
+import com.dashboard.v1.entity.ProjectStatus;
+import com.dashboard.v1.entity.User;
+import com.dashboard.v1.repository.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.transaction.Transactional;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based project-to-vendor assignment: loads the selected projects and the existing
+ * assignments once, diffs them in hash sets and writes only the missing pairs as JDBC batches.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectAssignmentService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectAssignmentService.class);
+
+    private final ProjectRepository projectRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Assigns every active project in {@code projectIdentifiers} to every vendor in {@code vendors}.
+     *
+     * @return number of new (project, vendor) pairs written
+     */
+    @Transactional
+    public int assignProjectsToVendors(List<User> vendors, List<String> projectIdentifiers) {
+        if (vendors.isEmpty() || projectIdentifiers == null || projectIdentifiers.isEmpty()) {
+            return 0;
+        }
+
+        List<Project> projects = projectRepository.findByProjectIdentifierIn(new HashSet<>(projectIdentifiers)).stream()
+                .filter(project -> project.getStatus() == ProjectStatus.ACTIVE)
+                .collect(Collectors.toList());
+        if (projects.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> projectIds = projects.stream().map(Project::getProjectIdentifier).collect(Collectors.toSet());
+
+        Set<String> existing = new HashSet<>(jdbcTemplate.query(
+                "SELECT project_id, vendor_username FROM project_vendor_assignment WHERE project_id IN (:ids)",
+                new MapSqlParameterSource("ids", projectIds),
+                (rs, i) -> rs.getString("project_id") + "|" + rs.getString("vendor_username")));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<MapSqlParameterSource> newRows = new ArrayList<>();
+        for (User vendor : vendors) {
+            for (Project project : projects) {
+                if (existing.add(project.getProjectIdentifier() + "|" + vendor.getUsername())) {
+                    newRows.add(new MapSqlParameterSource()
+                            .addValue("projectId", project.getProjectIdentifier())
+                            .addValue("vendorUsername", vendor.getUsername())
+                            .addValue("assignedAt", now));
+                }
+            }
+        }
+
+        if (!newRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO project_vendor_assignment (project_id, vendor_username, assigned_at) " +
+                            "VALUES (:projectId, :vendorUsername, :assignedAt)",
+                    newRows.toArray(new MapSqlParameterSource[0]));
+        }
+
+        logger.info("Assigned {} projects to {} vendors: {} new pairs", projects.size(), vendors.size(), newRows.size());
+        return newRows.size();
+    }
+}
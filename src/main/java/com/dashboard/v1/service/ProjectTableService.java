@@ -0,0 +1,104 @@
+package com.dashboard.v1.service;
+
+import com.dashboard.v1.entity.ProjectStatus;
+import com.dashboard.v1.model.response.DataTablesResponse;
+import com.dashboard.v1.model.response.ProjectTableDataResponse;
+import com.dashboard.v1.repository.ProjectVendorAssignmentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import java.util.*;
+
+/**
+ * Server-side paging, sorting and filtering for the project table. Only the predicates that are
+ * actually requested are added to the query, so each variant can use the status/created_at
+ * index or the unique project_identifier index; search is a prefix match on the identifier.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectTableService {
+
+    public static final int MAX_PAGE_LENGTH = 500;
+
+    // DataTables column data name -> sortable entity property; anything else sorts by createdAt
+    private static final Map<String, String> SORTABLE_COLUMNS = new HashMap<>();
+
+    static {
+        SORTABLE_COLUMNS.put("projectIdentifier", "projectIdentifier");
+        SORTABLE_COLUMNS.put("status", "status");
+        SORTABLE_COLUMNS.put("createdAt", "createdAt");
+    }
+
+    private final EntityManager entityManager;
+    private final ProjectVendorAssignmentRepository projectVendorAssignmentRepository;
+
+    public DataTablesResponse<ProjectTableDataResponse> getPage(int draw, int start, int length,
+                                                                String sortColumn, boolean ascending,
+                                                                ProjectStatus status, String search) {
+        String prefix = search == null || search.trim().isEmpty() ? null : search.trim();
+
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        if (status != null) {
+            where.append(" AND p.status = :status");
+        }
+        if (prefix != null) {
+            where.append(" AND p.projectIdentifier LIKE :prefix ESCAPE '!'");
+        }
+
+        String property = SORTABLE_COLUMNS.getOrDefault(sortColumn, "createdAt");
+        String direction = ascending ? "ASC" : "DESC";
+
+        TypedQuery<ProjectTableDataResponse> pageQuery = entityManager.createQuery(
+                "SELECT new com.dashboard.v1.model.response.ProjectTableDataResponse(" +
+                        "p.projectIdentifier, p.status, COALESCE(c.complete, 0L), COALESCE(c.terminate, 0L), " +
+                        "COALESCE(c.quotafull, 0L), COALESCE(c.securityTerminate, 0L), p.counts, p.loi, p.ir, p.cpi) " +
+                        "FROM Project p LEFT JOIN ProjectCounters c ON c.projectId = p.projectIdentifier" + where +
+                        " ORDER BY p." + property + " " + direction + ", p.id " + direction,
+                ProjectTableDataResponse.class);
+        TypedQuery<Long> filteredCountQuery = entityManager.createQuery(
+                "SELECT COUNT(p) FROM Project p" + where, Long.class);
+
+        if (status != null) {
+            pageQuery.setParameter("status", status);
+            filteredCountQuery.setParameter("status", status);
+        }
+        if (prefix != null) {
+            String pattern = escapeLike(prefix) + "%";
+            pageQuery.setParameter("prefix", pattern);
+            filteredCountQuery.setParameter("prefix", pattern);
+        }
+
+        List<ProjectTableDataResponse> rows = pageQuery
+                .setFirstResult(Math.max(0, start))
+                .setMaxResults(Math.min(Math.max(1, length), MAX_PAGE_LENGTH))
+                .getResultList();
+
+        long recordsTotal = entityManager.createQuery("SELECT COUNT(p) FROM Project p", Long.class).getSingleResult();
+        long recordsFiltered = status == null && prefix == null ? recordsTotal : filteredCountQuery.getSingleResult();
+
+        attachVendors(rows);
+        return new DataTablesResponse<>(draw, recordsTotal, recordsFiltered, rows);
+    }
+
+    // Vendor lists for the visible page only, in one IN query
+    private void attachVendors(List<ProjectTableDataResponse> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Set<String> projectIds = new HashSet<>();
+        rows.forEach(row -> projectIds.add(row.getProjectIdentifier()));
+
+        Map<String, List<String>> vendorsByProject = new HashMap<>();
+        projectVendorAssignmentRepository.findByProjectIdIn(projectIds).forEach(assignment ->
+                vendorsByProject.computeIfAbsent(assignment.getId().getProjectId(), k -> new ArrayList<>())
+                        .add(assignment.getId().getVendorUsername()));
+        rows.forEach(row ->
+                row.setVendorsUsername(vendorsByProject.getOrDefault(row.getProjectIdentifier(), Collections.emptyList())));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -0,0 +1,106 @@
+package com.dashboard.v1.service;
+
+import com.dashboard.v1.util.SlidingWindowCounter;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory request counts by endpoint pattern and status class (2xx, 4xx, ...), kept in
+ * per-second buckets over the last hour and per-minute buckets over the last 24 hours.
+ * Totals per status class are kept separately, so the health and dashboard figures are read
+ * from a fixed number of buckets without touching request_log. Counts start from zero on restart.
+ */
+@Service
+public class RequestCounterService {
+
+    public static final int MAX_WINDOW_MINUTES = 24 * 60;
+
+    private static final int SECOND_BUCKETS = 60 * 60;
+
+    private final ConcurrentMap<CounterKey, WindowedCounts> byEndpoint = new ConcurrentHashMap<>();
+    private final WindowedCounts[] byStatusClass = new WindowedCounts[6];
+
+    public RequestCounterService() {
+        for (int i = 1; i < byStatusClass.length; i++) {
+            byStatusClass[i] = new WindowedCounts();
+        }
+    }
+
+    /**
+     * @param endpointPattern matched handler pattern (e.g. /api/projects/{id}), not the raw URI
+     * @param status response status; requests that ended in an exception should be passed as 500
+     */
+    public void record(String endpointPattern, int status) {
+        long now = System.currentTimeMillis();
+        int statusClass = statusClass(status);
+        byStatusClass[statusClass].increment(now);
+        byEndpoint.computeIfAbsent(new CounterKey(endpointPattern, statusClass), key -> new WindowedCounts())
+                .increment(now);
+    }
+
+    /**
+     * Requests answered with 4xx or 5xx in the last {@code minutes} minutes
+     */
+    public long countFailures(int minutes) {
+        return countStatusClass(4, minutes) + countStatusClass(5, minutes);
+    }
+
+    public long countServerErrors(int minutes) {
+        return countStatusClass(5, minutes);
+    }
+
+    public long countStatusClass(int statusClass, int minutes) {
+        return byStatusClass[statusClass].sum(System.currentTimeMillis(), minutes);
+    }
+
+    /**
+     * Per endpoint pattern, the number of requests in each status class over the last {@code minutes} minutes
+     */
+    public Map<String, Map<String, Long>> getEndpointCounts(int minutes) {
+        long now = System.currentTimeMillis();
+        Map<String, Map<String, Long>> result = new TreeMap<>();
+        byEndpoint.forEach((key, counts) -> {
+            long count = counts.sum(now, minutes);
+            if (count > 0) {
+                result.computeIfAbsent(key.endpointPattern, pattern -> new TreeMap<>())
+                        .put(key.statusClass + "xx", count);
+            }
+        });
+        return result;
+    }
+
+    private static int statusClass(int status) {
+        return status >= 100 && status < 600 ? status / 100 : 5;
+    }
+
+    // Windows up to an hour are summed from per-second buckets, longer ones from per-minute buckets
+    private static final class WindowedCounts {
+        private final SlidingWindowCounter perSecond = new SlidingWindowCounter(1000, SECOND_BUCKETS);
+        private final SlidingWindowCounter perMinute = new SlidingWindowCounter(60_000, MAX_WINDOW_MINUTES);
+
+        void increment(long now) {
+            perSecond.increment(now);
+            perMinute.increment(now);
+        }
+
+        long sum(long now, int minutes) {
+            int window = Math.max(1, Math.min(minutes, MAX_WINDOW_MINUTES));
+            return window * 60 <= SECOND_BUCKETS
+                    ? perSecond.sum(now, window * 60)
+                    : perMinute.sum(now, window);
+        }
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class CounterKey {
+        private final String endpointPattern;
+        private final int statusClass;
+    }
+}
@@ -0,0 +1,262 @@
+package com.dashboard.v1.service;
+
+import com.dashboard.v1.entity.RequestLog;
+import com.dashboard.v1.util.RequestLogSegmentFile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Moves request_log rows older than app.request-log.archive.after-days out of the database into
+ * compressed, append-only segment files (see {@link RequestLogSegmentFile}) and answers the
+ * monitoring queries over that archived history.
+ *
+ * Successful and failed requests go to separate segments so the archive keeps the same
+ * per-outcome retention as the live table: app.request-log.retention-days for successes,
+ * app.request-log.failure-retention-days for failures. A segment is deleted once all of it is past
+ * its outcome's window, and rows already past it are left for the retention job instead of being
+ * archived.
+ *
+ * Rows are copied into a new segment first and only deleted once the segment is on disk. If the
+ * delete fails the rows are archived again on the next run, so readers drop duplicate request ids.
+ */
+@Service
+public class RequestLogArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestLogArchiveService.class);
+
+    private static final String SEGMENT_PREFIX = "request-log-";
+    private static final String SUCCESS_SUFFIX = "-ok";
+    private static final String FAILURE_SUFFIX = "-failed";
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
+    private static final RowMapper<RequestLog> ROW_MAPPER = (rs, i) -> {
+        RequestLog log = new RequestLog();
+        log.setId(rs.getLong("id"));
+        log.setRequestId(rs.getString("request_id"));
+        log.setMethod(rs.getString("method"));
+        log.setEndpoint(rs.getString("endpoint"));
+        log.setUserAgent(rs.getString("user_agent"));
+        log.setIpAddress(rs.getString("ip_address"));
+        log.setUsername(rs.getString("username"));
+        log.setRequestBody(rs.getString("request_body"));
+        log.setResponseStatus(rs.getObject("response_status", Integer.class));
+        log.setErrorMessage(rs.getString("error_message"));
+        log.setProcessingTimeMs(rs.getObject("processing_time_ms", Long.class));
+        log.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+        Timestamp completedAt = rs.getTimestamp("completed_at");
+        log.setCompletedAt(completedAt != null ? completedAt.toLocalDateTime() : null);
+        log.setIsSuccessful(rs.getObject("is_successful", Boolean.class));
+        return log;
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final Path directory;
+    private final boolean enabled;
+    private final int afterDays;
+    private final int successRetentionDays;
+    private final int failureRetentionDays;
+    private final int segmentRecords;
+    private final int maxResults;
+
+    // Segments are immutable, so their block indexes are loaded once per file
+    private final ConcurrentMap<Path, List<RequestLogSegmentFile.Block>> indexCache = new ConcurrentHashMap<>();
+
+    public RequestLogArchiveService(NamedParameterJdbcTemplate jdbcTemplate,
+                                    @Value("${app.request-log.archive.dir:./data/request-log-archive}") String directory,
+                                    @Value("${app.request-log.archive.enabled:true}") boolean enabled,
+                                    @Value("${app.request-log.archive.after-days:7}") int afterDays,
+                                    @Value("${app.request-log.retention-days:30}") int successRetentionDays,
+                                    @Value("${app.request-log.failure-retention-days:90}") int failureRetentionDays,
+                                    @Value("${app.request-log.archive.segment-records:20000}") int segmentRecords,
+                                    @Value("${app.request-log.archive.max-results:1000}") int maxResults) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.directory = Paths.get(directory);
+        this.enabled = enabled;
+        this.afterDays = afterDays;
+        this.successRetentionDays = successRetentionDays;
+        this.failureRetentionDays = Math.max(successRetentionDays, failureRetentionDays);
+        this.segmentRecords = segmentRecords;
+        this.maxResults = maxResults;
+    }
+
+    // Runs ahead of the 03:15 retention job so rows are archived before they can be purged
+    @Scheduled(cron = "${app.request-log.archive.cron:0 45 2 * * *}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        LocalDateTime cutoff = today.minusDays(afterDays).atStartOfDay();
+        try {
+            Files.createDirectories(directory);
+            long successes = archive(RequestLogRetentionService.SUCCESS_OUTCOME, SUCCESS_SUFFIX,
+                    today.minusDays(successRetentionDays).atStartOfDay(), cutoff);
+            long failures = archive(RequestLogRetentionService.FAILURE_OUTCOME, FAILURE_SUFFIX,
+                    today.minusDays(failureRetentionDays).atStartOfDay(), cutoff);
+            int expired = deleteExpiredSegments(today);
+            logger.info("Archived {} successful and {} failed request logs, removed {} expired segments", successes, failures, expired);
+        } catch (Exception e) {
+            logger.error("Request log archiving failed", e);
+        }
+    }
+
+    // Archives rows of one outcome created in [expiredBefore, cutoff) into segments named with suffix
+    private long archive(String outcome, String suffix, LocalDateTime expiredBefore, LocalDateTime cutoff) throws IOException {
+        MapSqlParameterSource params = new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff))
+                .addValue("expired", Timestamp.valueOf(expiredBefore));
+        long archived = 0;
+        while (true) {
+            List<RequestLog> logs = jdbcTemplate.query(
+                    "SELECT * FROM request_log WHERE created_at >= :expired AND created_at < :cutoff AND " + outcome +
+                            " ORDER BY created_at, id LIMIT " + segmentRecords, params, ROW_MAPPER);
+            if (logs.isEmpty()) {
+                return archived;
+            }
+            RequestLog first = logs.get(0);
+            RequestLogSegmentFile.write(directory,
+                    SEGMENT_PREFIX + RequestLogSegmentFile.toMillis(first.getCreatedAt()) + "-" + first.getId() + suffix, logs);
+            delete(logs, cutoff);
+            archived += logs.size();
+            if (logs.size() < segmentRecords) {
+                return archived;
+            }
+        }
+    }
+
+    /**
+     * Archived failed requests created at or after {@code since}, newest first, capped at app.request-log.archive.max-results.
+     */
+    public List<RequestLog> findFailedSince(LocalDateTime since) {
+        long from = RequestLogSegmentFile.toMillis(since);
+        return search(block -> block.failureCount > 0 && block.maxCreatedAt >= from,
+                log -> Boolean.FALSE.equals(log.getIsSuccessful()) && !log.getCreatedAt().isBefore(since));
+    }
+
+    /**
+     * Archived requests of {@code username}, newest first, capped at app.request-log.archive.max-results.
+     */
+    public List<RequestLog> findByUsername(String username) {
+        return search(block -> block.mightContainUsername(username), log -> username.equals(log.getUsername()));
+    }
+
+    /**
+     * Appends archived rows to {@code live} rows, skipping request ids already present, newest first.
+     */
+    public static List<RequestLog> merge(List<RequestLog> live, List<RequestLog> archived) {
+        Set<String> seen = live.stream().map(RequestLog::getRequestId).collect(Collectors.toSet());
+        List<RequestLog> merged = new ArrayList<>(live);
+        for (RequestLog log : archived) {
+            if (seen.add(log.getRequestId())) {
+                merged.add(log);
+            }
+        }
+        merged.sort(Comparator.comparing(RequestLog::getCreatedAt).reversed());
+        return merged;
+    }
+
+    private List<RequestLog> search(Predicate<RequestLogSegmentFile.Block> blockFilter, Predicate<RequestLog> filter) {
+        List<RequestLog> result = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        try {
+            // Segment names start with their first created_at, so this visits the newest segments first
+            List<Path> indexes = listIndexes();
+            indexes.sort(Comparator.comparing((Path path) -> segmentStart(path)).reversed());
+            for (Path index : indexes) {
+                List<RequestLogSegmentFile.Block> blocks = indexCache.computeIfAbsent(index, this::loadIndex).stream()
+                        .filter(blockFilter)
+                        .collect(Collectors.toList());
+                Path segment = index.resolveSibling(baseName(index) + RequestLogSegmentFile.SEGMENT_SUFFIX);
+                for (RequestLog log : RequestLogSegmentFile.readBlocks(segment, blocks, filter)) {
+                    if (seen.add(log.getRequestId())) {
+                        result.add(log);
+                    }
+                }
+                if (result.size() >= maxResults) {
+                    break;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Failed to read request log archive", e);
+        }
+        result.sort(Comparator.comparing(RequestLog::getCreatedAt).reversed());
+        return result.size() > maxResults ? new ArrayList<>(result.subList(0, maxResults)) : result;
+    }
+
+    private void delete(List<RequestLog> logs, LocalDateTime cutoff) {
+        List<Long> ids = logs.stream().map(RequestLog::getId).collect(Collectors.toList());
+        for (int start = 0; start < ids.size(); start += DELETE_CHUNK_SIZE) {
+            // The created_at bound lets MySQL prune to the archived partitions
+            jdbcTemplate.update("DELETE FROM request_log WHERE id IN (:ids) AND created_at < :cutoff",
+                    new MapSqlParameterSource("ids", ids.subList(start, Math.min(ids.size(), start + DELETE_CHUNK_SIZE)))
+                            .addValue("cutoff", Timestamp.valueOf(cutoff)));
+        }
+    }
+
+    private int deleteExpiredSegments(LocalDate today) throws IOException {
+        long successCutoff = RequestLogSegmentFile.toMillis(today.minusDays(successRetentionDays).atStartOfDay());
+        long failureCutoff = RequestLogSegmentFile.toMillis(today.minusDays(failureRetentionDays).atStartOfDay());
+        int deleted = 0;
+        for (Path index : listIndexes()) {
+            long cutoff = baseName(index).endsWith(SUCCESS_SUFFIX) ? successCutoff : failureCutoff;
+            List<RequestLogSegmentFile.Block> blocks = indexCache.computeIfAbsent(index, this::loadIndex);
+            if (blocks.stream().allMatch(block -> block.maxCreatedAt < cutoff)) {
+                // Index first, so readers never find an index without its segment
+                indexCache.remove(index);
+                Files.deleteIfExists(index);
+                Files.deleteIfExists(index.resolveSibling(baseName(index) + RequestLogSegmentFile.SEGMENT_SUFFIX));
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private List<Path> listIndexes() throws IOException {
+        List<Path> indexes = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return indexes;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + RequestLogSegmentFile.INDEX_SUFFIX)) {
+            stream.forEach(indexes::add);
+        }
+        indexCache.keySet().retainAll(indexes);
+        return indexes;
+    }
+
+    private List<RequestLogSegmentFile.Block> loadIndex(Path index) {
+        try {
+            return RequestLogSegmentFile.readIndex(index);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable request log segment index " + index, e);
+        }
+    }
+
+    private static String baseName(Path index) {
+        String name = index.getFileName().toString();
+        return name.substring(0, name.length() - RequestLogSegmentFile.INDEX_SUFFIX.length());
+    }
+
+    private static long segmentStart(Path index) {
+        String base = baseName(index).substring(SEGMENT_PREFIX.length());
+        return Long.parseLong(base.substring(0, base.indexOf('-')));
+    }
+}
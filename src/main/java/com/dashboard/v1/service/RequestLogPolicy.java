@@ -0,0 +1,68 @@
+package com.dashboard.v1.service;
+
+import com.dashboard.v1.entity.RequestLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decides which completed requests are worth a request_log row. Errors and admin writes are
+ * always kept; successful survey clicks and callbacks, which make up most of the traffic, are
+ * sampled at app.request-log.click-sample-rate, and all other successful requests at
+ * app.request-log.sample-rate.
+ */
+@Component
+public class RequestLogPolicy {
+
+    private final double clickSampleRate;
+    private final double sampleRate;
+
+    private final AtomicLong sampledOutCount = new AtomicLong();
+
+    public RequestLogPolicy(@Value("${app.request-log.click-sample-rate:0.1}") double clickSampleRate,
+                            @Value("${app.request-log.sample-rate:1.0}") double sampleRate) {
+        this.clickSampleRate = clickSampleRate;
+        this.sampleRate = sampleRate;
+    }
+
+    public boolean shouldLog(RequestLog log, boolean adminUser) {
+        if (isError(log) || (adminUser && isWrite(log.getMethod()))) {
+            return true;
+        }
+        double rate = isSurveyTraffic(log.getEndpoint()) ? clickSampleRate : sampleRate;
+        if (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate) {
+            return true;
+        }
+        sampledOutCount.incrementAndGet();
+        return false;
+    }
+
+    public long getSampledOutCount() {
+        return sampledOutCount.get();
+    }
+
+    public double getClickSampleRate() {
+        return clickSampleRate;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    // Redirects are the normal outcome of a click, so only 4xx/5xx and exceptions count as errors
+    private static boolean isError(RequestLog log) {
+        return log.getErrorMessage() != null
+                || (log.getResponseStatus() != null && log.getResponseStatus() >= 400);
+    }
+
+    private static boolean isWrite(String method) {
+        return !"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method);
+    }
+
+    private static boolean isSurveyTraffic(String endpoint) {
+        return endpoint != null && (endpoint.equals("/survey") || endpoint.startsWith("/survey/"))
+                && !endpoint.startsWith("/survey/api/");
+    }
+}
@@ -0,0 +1,155 @@
+package com.dashboard.v1.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Daily retention for request_log. Successful requests (status below 400) are kept for
+ * app.request-log.retention-days, failures and unfinished requests for
+ * app.request-log.failure-retention-days.
+ *
+ * On MySQL, where request_log is partitioned by day (migration V3), whole days past the failure
+ * window are dropped as partitions and the next days' partitions are created ahead of time.
+ * Everything else is purged in bounded chunks: select a chunk of ids, delete them, repeat, so no
+ * statement holds locks for long.
+ */
+@Service
+public class RequestLogRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestLogRetentionService.class);
+
+    /** Outcome predicates over request_log; unfinished requests (no status yet) count as failures. */
+    public static final String SUCCESS_OUTCOME = "(response_status IS NOT NULL AND response_status < 400)";
+    public static final String FAILURE_OUTCOME = "(response_status IS NULL OR response_status >= 400)";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+    private static final int PARTITIONS_AHEAD = 7;
+    // MySQL TO_DAYS('1970-01-01')
+    private static final long TO_DAYS_EPOCH = 719528;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final int retentionDays;
+    private final int failureRetentionDays;
+    private final int chunkSize;
+
+    public RequestLogRetentionService(JdbcTemplate jdbcTemplate,
+                                      NamedParameterJdbcTemplate namedJdbcTemplate,
+                                      @Value("${app.request-log.retention-days:30}") int retentionDays,
+                                      @Value("${app.request-log.failure-retention-days:90}") int failureRetentionDays,
+                                      @Value("${app.request-log.purge-chunk-size:5000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.retentionDays = retentionDays;
+        this.failureRetentionDays = Math.max(retentionDays, failureRetentionDays);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${app.request-log.retention-cron:0 15 3 * * *}")
+    public void applyRetention() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime successCutoff = today.minusDays(retentionDays).atStartOfDay();
+        LocalDateTime failureCutoff = today.minusDays(failureRetentionDays).atStartOfDay();
+
+        try {
+            List<Map<String, Object>> partitions = isMySql() ? listPartitions() : null;
+            if (partitions != null && !partitions.isEmpty()) {
+                createPartitionsAhead(partitions, today);
+                dropExpiredPartitions(partitions, failureCutoff.toLocalDate());
+            }
+
+            long successes = purge(SUCCESS_OUTCOME, successCutoff);
+            long failures = purge(FAILURE_OUTCOME, failureCutoff);
+            logger.info("Request log retention purged {} successful and {} failed requests", successes, failures);
+        } catch (Exception e) {
+            logger.error("Request log retention failed", e);
+        }
+    }
+
+    private long purge(String outcome, LocalDateTime cutoff) {
+        MapSqlParameterSource params = new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff));
+        long purged = 0;
+        while (true) {
+            List<Long> ids = namedJdbcTemplate.queryForList(
+                    "SELECT id FROM request_log WHERE created_at < :cutoff AND " + outcome +
+                            " ORDER BY created_at LIMIT " + chunkSize, params, Long.class);
+            if (ids.isEmpty()) {
+                return purged;
+            }
+            // The created_at bound lets MySQL prune to the expired partitions
+            purged += namedJdbcTemplate.update(
+                    "DELETE FROM request_log WHERE id IN (:ids) AND created_at < :cutoff",
+                    new MapSqlParameterSource("ids", ids).addValue("cutoff", Timestamp.valueOf(cutoff)));
+            if (ids.size() < chunkSize) {
+                return purged;
+            }
+        }
+    }
+
+    private boolean isMySql() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(database);
+    }
+
+    // Partition name and upper bound (TO_DAYS value or MAXVALUE); empty when the table is not partitioned
+    private List<Map<String, Object>> listPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME AS name, PARTITION_DESCRIPTION AS bound FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'request_log' AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION");
+    }
+
+    private void createPartitionsAhead(List<Map<String, Object>> partitions, LocalDate today) {
+        LocalDate lastCovered = null;
+        for (Map<String, Object> partition : partitions) {
+            String bound = String.valueOf(partition.get("bound"));
+            if (!"MAXVALUE".equalsIgnoreCase(bound)) {
+                lastCovered = LocalDate.ofEpochDay(Long.parseLong(bound) - TO_DAYS_EPOCH);
+            }
+        }
+        LocalDate from = lastCovered == null || lastCovered.isBefore(today) ? today : lastCovered;
+        LocalDate until = today.plusDays(PARTITIONS_AHEAD);
+        if (!from.isBefore(until)) {
+            return;
+        }
+
+        // p_future is empty in normal operation, so splitting it only touches metadata
+        StringBuilder sql = new StringBuilder("ALTER TABLE request_log REORGANIZE PARTITION p_future INTO (");
+        for (LocalDate day = from; day.isBefore(until); day = day.plusDays(1)) {
+            sql.append("PARTITION ").append(day.format(PARTITION_NAME))
+                    .append(" VALUES LESS THAN (TO_DAYS('").append(day.plusDays(1)).append("')), ");
+        }
+        sql.append("PARTITION p_future VALUES LESS THAN MAXVALUE)");
+        jdbcTemplate.execute(sql.toString());
+        logger.info("Created request_log partitions from {} to {}", from, until.minusDays(1));
+    }
+
+    private void dropExpiredPartitions(List<Map<String, Object>> partitions, LocalDate cutoffDay) {
+        long cutoffToDays = cutoffDay.toEpochDay() + TO_DAYS_EPOCH;
+        for (Map<String, Object> partition : partitions) {
+            String bound = String.valueOf(partition.get("bound"));
+            if ("MAXVALUE".equalsIgnoreCase(bound) || Long.parseLong(bound) > cutoffToDays) {
+                continue;
+            }
+            // Every row in this partition is older than the longest retention window
+            String name = String.valueOf(partition.get("name"));
+            jdbcTemplate.execute("ALTER TABLE request_log DROP PARTITION " + name);
+            logger.info("Dropped expired request_log partition {}", name);
+        }
+    }
+}
@@ -1,104 +1,92 @@
 package com.dashboard.v1.service;
 
 import com.dashboard.v1.entity.RequestLog;
+import com.dashboard.v1.model.response.CursorPageResponse;
 import com.dashboard.v1.repository.RequestLogRepository;
+import com.dashboard.v1.util.KeysetCursor;
+import com.dashboard.v1.util.RequestIdGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import javax.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 
 @Service
 public class RequestLogService {
 
     private static final Logger logger = LoggerFactory.getLogger(RequestLogService.class);
 
+    private static final int VARCHAR_LENGTH = 255;
+
     @Autowired
     private RequestLogRepository requestLogRepository;
 
+    @Autowired
+    private RequestLogWriter requestLogWriter;
+
+    @Autowired
+    private RequestLogPolicy requestLogPolicy;
+
     /**
-     * Log request asynchronously to avoid blocking main request processing
-     * Uses REQUIRES_NEW propagation to ensure logging runs in its own transaction
-     * and is not affected by parent transaction rollbacks
+     * Build the in-memory log record for a request that is starting. Nothing is written yet;
+     * the record is completed and written once in {@link #completeRequestLog}.
      *
      * @param requestId Unique request identifier
-     * @param method HTTP method (GET, POST, etc.)
-     * @param endpoint Request URI
-     * @param userAgent User-Agent header
-     * @param ipAddress Client IP address
+     * @param request Incoming request (method, URI, User-Agent and client IP are read from it)
      * @param username Authenticated username (can be null)
      * @param requestBody Request body (can be null)
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void logRequest(String requestId, String method, String endpoint,
-                          String userAgent, String ipAddress, String username, String requestBody) {
-        try {
-            RequestLog log = new RequestLog();
-            log.setRequestId(requestId != null ? requestId : generateRequestId());
-            log.setMethod(method != null ? method : "UNKNOWN");
-            log.setEndpoint(endpoint != null ? endpoint : "/unknown");
-            log.setUserAgent(userAgent);
-            log.setIpAddress(ipAddress);
-            log.setUsername(username);
-            log.setRequestBody(requestBody);
-
-            requestLogRepository.save(log);
-            logger.debug("Request logged: {} {} - {}", method, endpoint, log.getRequestId());
-        } catch (Exception e) {
-            logger.error("Failed to log request: {} {} - {}", method, endpoint, e.getMessage());
-        }
+    public RequestLog startRequestLog(String requestId, HttpServletRequest request,
+                                      String username, String requestBody) {
+        RequestLog log = new RequestLog();
+        log.setRequestId(requestId != null ? requestId : generateRequestId());
+        log.setMethod(clamp(request.getMethod() != null ? request.getMethod() : "UNKNOWN"));
+        log.setEndpoint(clamp(request.getRequestURI() != null ? request.getRequestURI() : "/unknown"));
+        log.setUserAgent(request.getHeader("User-Agent"));
+        log.setIpAddress(clamp(getClientIpAddress(request)));
+        log.setUsername(clamp(username));
+        log.setRequestBody(requestBody);
+        log.setCreatedAt(LocalDateTime.now());
+        return log;
     }
 
     /**
-     * Helper method to extract request data and call async logging
-     * This ensures all data is extracted before async execution
+     * Fill in the outcome of a finished request and, if the logging policy keeps it, hand the
+     * record to the batched writer
+     *
+     * @param adminUser whether the request was made by an admin (admin writes are always logged)
      */
-    public void logRequestFromHttpServletRequest(String requestId, HttpServletRequest request,
-                                                  String username, String requestBody) {
-        try {
-            String method = request.getMethod();
-            String endpoint = request.getRequestURI();
-            String userAgent = request.getHeader("User-Agent");
-            String ipAddress = getClientIpAddress(request);
-
-            // Call the async method with pre-extracted data
-            logRequest(requestId, method, endpoint, userAgent, ipAddress, username, requestBody);
-        } catch (Exception e) {
-            logger.error("Failed to extract request data for logging", e);
+    public void completeRequestLog(RequestLog log, Integer responseStatus, String errorMessage,
+                                   long processingTimeMs, boolean adminUser) {
+        log.setResponseStatus(responseStatus);
+        log.setErrorMessage(errorMessage);
+        log.setProcessingTimeMs(processingTimeMs);
+        log.setCompletedAt(LocalDateTime.now());
+        log.setIsSuccessful(responseStatus != null && responseStatus >= 200 && responseStatus < 300);
+        if (requestLogPolicy.shouldLog(log, adminUser)) {
+            requestLogWriter.offer(log);
         }
     }
 
     /**
-     * Update request log with response status and completion time
-     * Uses REQUIRES_NEW propagation to ensure logging runs in its own transaction
-     * and is not affected by parent transaction rollbacks
+     * Counters of the logging pipeline: records written, dropped because the buffer was full,
+     * skipped by sampling, and currently waiting in the buffer
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void updateRequestLog(String requestId, Integer responseStatus, String errorMessage, Long processingTimeMs) {
-        try {
-            RequestLog log = requestLogRepository.findByRequestId(requestId).orElse(null);
-            if (log != null) {
-                log.setResponseStatus(responseStatus);
-                log.setErrorMessage(errorMessage);
-                log.setProcessingTimeMs(processingTimeMs);
-                log.setCompletedAt(LocalDateTime.now());
-                log.setIsSuccessful(responseStatus != null && responseStatus >= 200 && responseStatus < 300);
-
-                requestLogRepository.save(log);
-                logger.debug("Request log updated: {} - Status: {}", requestId, responseStatus);
-            }
-        } catch (Exception e) {
-            logger.error("Failed to update request log", e);
-        }
+    public Map<String, Object> getLoggingStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("written", requestLogWriter.getWrittenCount());
+        stats.put("dropped", requestLogWriter.getDroppedCount());
+        stats.put("sampledOut", requestLogPolicy.getSampledOutCount());
+        stats.put("buffered", requestLogWriter.getBufferedCount());
+        stats.put("clickSampleRate", requestLogPolicy.getClickSampleRate());
+        stats.put("sampleRate", requestLogPolicy.getSampleRate());
+        return stats;
     }
 
     /**
@@ -129,8 +117,44 @@ public class RequestLogService {
         return requestLogRepository.findByUsernameOrderByCreatedAtDesc(username);
     }
 
+    /**
+     * Get one keyset page of failed requests, newest first
+     *
+     * @param cursor Opaque cursor from the previous page (null for the first page)
+     * @param size Page size
+     */
+    public CursorPageResponse<RequestLog> getFailedRequestsPage(String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<RequestLog> rows = after == null
+                ? requestLogRepository.findFailedFirstPage(limit)
+                : requestLogRepository.findFailedPageAfter(after.getTimestamp(), after.getId(), limit);
+        return CursorPageResponse.of(rows, size, RequestLogService::cursorOf);
+    }
+
+    /**
+     * Get one keyset page of requests by username, newest first
+     */
+    public CursorPageResponse<RequestLog> getRequestsByUsernamePage(String username, String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<RequestLog> rows = after == null
+                ? requestLogRepository.findByUsernameFirstPage(username, limit)
+                : requestLogRepository.findByUsernamePageAfter(username, after.getTimestamp(), after.getId(), limit);
+        return CursorPageResponse.of(rows, size, RequestLogService::cursorOf);
+    }
+
+    // method, endpoint, ip_address and username are VARCHAR(255); a longer value would fail the whole insert batch
+    private static String clamp(String value) {
+        return value != null && value.length() > VARCHAR_LENGTH ? value.substring(0, VARCHAR_LENGTH) : value;
+    }
+
+    private static KeysetCursor cursorOf(RequestLog log) {
+        return new KeysetCursor(log.getCreatedAt(), log.getId());
+    }
+
     private String generateRequestId() {
-        return UUID.randomUUID().toString();
+        return RequestIdGenerator.next();
     }
 
     public String getClientIpAddress(HttpServletRequest request) {
@@ -0,0 +1,151 @@
+package com.dashboard.v1.service;
+
+import com.dashboard.v1.entity.RequestLog;
+import com.dashboard.v1.repository.RequestLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes completed request logs. Request threads only offer the finished record to a bounded
+ * ring buffer and never wait; a single writer thread drains it and inserts each drained chunk
+ * in one transaction, which Hibernate sends as JDBC batches (multi-row inserts on MySQL).
+ * When the buffer is full the record is dropped and counted. If a batch fails, its records are
+ * retried one per transaction so only the bad record is dropped.
+ */
+@Component
+public class RequestLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestLogWriter.class);
+
+    private final RequestLogRepository requestLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ArrayBlockingQueue<RequestLog> buffer;
+    private final int batchSize;
+
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+
+    private volatile boolean running = true;
+    private Thread writerThread;
+
+    public RequestLogWriter(RequestLogRepository requestLogRepository,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.request-log.buffer-size:8192}") int bufferSize,
+                            @Value("${app.request-log.batch-size:100}") int batchSize) {
+        this.requestLogRepository = requestLogRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread = new Thread(this::run, "request-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Hands a completed record to the writer without blocking.
+     *
+     * @return false if the buffer was full and the record was dropped
+     */
+    public boolean offer(RequestLog log) {
+        if (buffer.offer(log)) {
+            return true;
+        }
+        long dropped = droppedCount.incrementAndGet();
+        // One warning per 1000 drops so a sustained overflow does not flood the log
+        if (dropped % 1000 == 1) {
+            logger.warn("Request log buffer full, {} records dropped so far", dropped);
+        }
+        return false;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Tells the writer to finish: it keeps writing until the buffer is empty, then exits. Not
+     * interrupted, so a batch in flight is never cut off mid-transaction.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        if (writerThread.isAlive()) {
+            logger.warn("Request log writer still draining at shutdown, {} records buffered", buffer.size());
+        }
+    }
+
+    private void run() {
+        List<RequestLog> batch = new ArrayList<>(batchSize);
+        // After stop() the loop carries on until the buffer is drained
+        while (running || !buffer.isEmpty()) {
+            try {
+                RequestLog first = buffer.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<RequestLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> requestLogRepository.saveAll(batch));
+            writtenCount.addAndGet(batch.size());
+            logger.debug("Wrote {} request logs", batch.size());
+        } catch (Exception e) {
+            // Request ids are time-ordered, so the first and last id bound the failed batch
+            logger.warn("Failed to write {} request logs as a batch, request ids {} to {}; retrying one by one",
+                    batch.size(), batch.get(0).getRequestId(), batch.get(batch.size() - 1).getRequestId(), e);
+            batch.forEach(this::writeOne);
+        }
+    }
+
+    // Own transaction per record, so a bad row only loses itself
+    private void writeOne(RequestLog log) {
+        // Ids handed out by the rolled-back batch are not reused
+        log.setId(null);
+        try {
+            transactionTemplate.executeWithoutResult(status -> requestLogRepository.save(log));
+            writtenCount.incrementAndGet();
+        } catch (Exception e) {
+            droppedCount.incrementAndGet();
+            logger.error("Failed to write request log {}", log.getRequestId(), e);
+        }
+    }
+}
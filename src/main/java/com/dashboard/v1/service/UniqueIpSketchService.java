@@ -0,0 +1,123 @@
+package com.dashboard.v1.service;
+
+import com.dashboard.v1.entity.SketchScope;
+import com.dashboard.v1.entity.UniqueIpSketch;
+import com.dashboard.v1.repository.UniqueIpSketchRepository;
+import com.dashboard.v1.util.HyperLogLog;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Approximate distinct click IPs per (project, day) and (vendor, day).
+ * Clicks update in-memory HyperLogLog sketches; a scheduled flush merges them into the
+ * unique_ip_sketch table. Because HLL merge is idempotent the live sketches are simply
+ * re-merged on every flush and dropped once their day is over and persisted.
+ */
+@Service
+@RequiredArgsConstructor
+public class UniqueIpSketchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UniqueIpSketchService.class);
+
+    // Same zone LinkRedirectController uses for survey start times
+    private static final ZoneId ZONE = ZoneId.of("Asia/Kolkata");
+
+    private final UniqueIpSketchRepository uniqueIpSketchRepository;
+
+    private final ConcurrentMap<SketchKey, HyperLogLog> liveSketches = new ConcurrentHashMap<>();
+
+    public void recordClick(String projectId, String vendorUsername, String ipAddress) {
+        if (ipAddress == null || ipAddress.isEmpty()) {
+            return;
+        }
+        LocalDate today = LocalDate.now(ZONE);
+        if (projectId != null) {
+            liveSketch(new SketchKey(SketchScope.PROJECT, projectId, today)).add(ipAddress);
+        }
+        if (vendorUsername != null) {
+            liveSketch(new SketchKey(SketchScope.VENDOR, vendorUsername, today)).add(ipAddress);
+        }
+    }
+
+    /**
+     * Merges persisted and not-yet-flushed sketches over [startDay, endDay] into one.
+     */
+    public HyperLogLog mergedSketch(SketchScope scope, String scopeKey, LocalDate startDay, LocalDate endDay) {
+        HyperLogLog merged = new HyperLogLog();
+        uniqueIpSketchRepository.findSketchesBetween(scope, scopeKey, startDay, endDay)
+                .forEach(row -> merged.merge(HyperLogLog.fromBytes(row.getRegisters())));
+        liveSketches.forEach((key, sketch) -> {
+            if (key.scope == scope && key.scopeKey.equals(scopeKey)
+                    && !key.day.isBefore(startDay) && !key.day.isAfter(endDay)) {
+                merged.merge(sketch);
+            }
+        });
+        return merged;
+    }
+
+    @Scheduled(fixedDelayString = "${app.sketch.flush-interval-ms:60000}")
+    public void flush() {
+        LocalDate today = LocalDate.now(ZONE);
+        Map<SketchKey, HyperLogLog> snapshot = new HashMap<>(liveSketches);
+        for (Map.Entry<SketchKey, HyperLogLog> entry : snapshot.entrySet()) {
+            SketchKey key = entry.getKey();
+            try {
+                persist(key, entry.getValue());
+                // Past days receive no more clicks, so once persisted they can leave memory
+                if (key.day.isBefore(today)) {
+                    liveSketches.remove(key, entry.getValue());
+                }
+            } catch (Exception e) {
+                logger.error("Failed to flush unique IP sketch {} {} {}", key.scope, key.scopeKey, key.day, e);
+            }
+        }
+        logger.debug("Flushed {} unique IP sketches", snapshot.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void persist(SketchKey key, HyperLogLog live) {
+        UniqueIpSketch row = uniqueIpSketchRepository.findSketch(key.scope, key.scopeKey, key.day)
+                .orElseGet(() -> {
+                    UniqueIpSketch created = new UniqueIpSketch();
+                    created.setScope(key.scope);
+                    created.setScopeKey(key.scopeKey);
+                    created.setDay(key.day);
+                    return created;
+                });
+        HyperLogLog merged = row.getRegisters() != null
+                ? HyperLogLog.fromBytes(row.getRegisters())
+                : new HyperLogLog();
+        merged.merge(live);
+        row.setRegisters(merged.toBytes());
+        uniqueIpSketchRepository.save(row);
+    }
+
+    private HyperLogLog liveSketch(SketchKey key) {
+        return liveSketches.computeIfAbsent(key, k -> new HyperLogLog());
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static final class SketchKey {
+        private final SketchScope scope;
+        private final String scopeKey;
+        private final LocalDate day;
+    }
+}
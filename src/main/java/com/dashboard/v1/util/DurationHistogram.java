@@ -0,0 +1,112 @@
+package com.dashboard.v1.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-bucket histogram of durations in seconds. Bucket upper bounds grow geometrically by 10%
+ * from 1s up to ~6h, so any percentile read from it overstates the true value by at most 10%; longer
+ * durations land in the last bucket. Histograms are merged by adding bucket counts.
+ * Not thread-safe: callers serialize access.
+ */
+public class DurationHistogram {
+
+    private static final double GROWTH = 1.1;
+    public static final int BUCKET_COUNT = 90;
+
+    // Layout of toBytes(): count, sum of seconds, then one long per bucket
+    public static final int SERIALIZED_SIZE = (BUCKET_COUNT + 2) * Long.BYTES;
+
+    private static final long[] UPPER_BOUNDS = new long[BUCKET_COUNT];
+
+    static {
+        double bound = 1;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            UPPER_BOUNDS[i] = (long) Math.ceil(bound);
+            bound = Math.max(bound * GROWTH, UPPER_BOUNDS[i] + 1);
+        }
+    }
+
+    private final long[] buckets = new long[BUCKET_COUNT];
+    private long count;
+    private long sumSeconds;
+
+    public void record(long seconds) {
+        long value = Math.max(0, seconds);
+        buckets[bucketOf(value)]++;
+        count++;
+        sumSeconds += value;
+    }
+
+    public void merge(DurationHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] += other.buckets[i];
+        }
+        count += other.count;
+        sumSeconds += other.sumSeconds;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double mean() {
+        return count == 0 ? 0 : (double) sumSeconds / count;
+    }
+
+    /**
+     * @param quantile between 0 and 1, e.g. 0.5 for the median
+     * @return upper bound in seconds of the bucket holding that rank, or 0 when empty
+     */
+    public long percentile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return UPPER_BOUNDS[i];
+            }
+        }
+        return UPPER_BOUNDS[BUCKET_COUNT - 1];
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(SERIALIZED_SIZE);
+        buffer.putLong(count);
+        buffer.putLong(sumSeconds);
+        for (long bucket : buckets) {
+            buffer.putLong(bucket);
+        }
+        return buffer.array();
+    }
+
+    public static DurationHistogram fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != SERIALIZED_SIZE) {
+            throw new IllegalArgumentException("Expected " + SERIALIZED_SIZE + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.count = buffer.getLong();
+        histogram.sumSeconds = buffer.getLong();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            histogram.buckets[i] = buffer.getLong();
+        }
+        return histogram;
+    }
+
+    private static int bucketOf(long seconds) {
+        int low = 0;
+        int high = BUCKET_COUNT - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (UPPER_BOUNDS[mid] >= seconds) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
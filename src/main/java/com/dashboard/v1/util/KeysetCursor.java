@@ -0,0 +1,49 @@
+package com.dashboard.v1.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a keyset (seek) page: the sort timestamp plus the
+ * row id as a tie-breaker. Sent to clients as an opaque URL-safe token. The timestamp
+ * is null when the page ended on a row without one; it is encoded as an empty field.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime timestamp;
+    private final Long id;
+
+    public String encode() {
+        String raw = (timestamp != null ? timestamp.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @return the cursor, or null when the token is null or empty (first page)
+     * @throws IllegalArgumentException when the token is malformed
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            String timestamp = raw.substring(0, split);
+            return new KeysetCursor(timestamp.isEmpty() ? null : LocalDateTime.parse(timestamp),
+                    Long.parseLong(raw.substring(split + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.dashboard.v1.util;
+
+/**
+ * HDR-style histogram of latencies in nanoseconds. Values below 128ns get one bucket each; above
+ * that every power of two is split into 64 linear sub-buckets, so a percentile read from it
+ * overstates the true value by less than 1/64 (about 1.6%). Values from about 2.4 hours up land in
+ * the last bucket. Not thread-safe: {@code LatencyService} feeds it from atomic counters.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT / 2;
+    private static final int MAX_VALUE_BITS = 43;
+
+    public static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_VALUE_BITS - SUB_BUCKET_BITS) * SUB_BUCKET_HALF;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+
+    public static int bucketOf(long nanos) {
+        long value = Math.min(Math.max(0, nanos), (1L << MAX_VALUE_BITS) - 1);
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF + (int) (value >>> shift) - SUB_BUCKET_HALF;
+    }
+
+    /**
+     * @return largest value that falls into {@code bucket}
+     */
+    public static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+        long subBucket = (bucket - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    public void add(int bucket, long count) {
+        counts[bucket] += count;
+        totalCount += count;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * @param quantile between 0 and 1, e.g. 0.999
+     * @return upper bound in nanoseconds of the bucket holding that rank, or 0 when empty
+     */
+    public long percentile(double quantile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKET_COUNT - 1);
+    }
+}
@@ -0,0 +1,35 @@
+package com.dashboard.v1.util;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.Map;
+
+/**
+ * Runs async tasks with the MDC (request id) of the thread that submitted them, and restores
+ * the worker thread's own MDC afterwards.
+ */
+public class MdcTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        Map<String, String> submitterContext = MDC.getCopyOfContextMap();
+        return () -> {
+            Map<String, String> workerContext = MDC.getCopyOfContextMap();
+            setContext(submitterContext);
+            try {
+                runnable.run();
+            } finally {
+                setContext(workerContext);
+            }
+        };
+    }
+
+    private static void setContext(Map<String, String> context) {
+        if (context != null) {
+            MDC.setContextMap(context);
+        } else {
+            MDC.clear();
+        }
+    }
+}
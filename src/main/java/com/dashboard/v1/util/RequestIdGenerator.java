@@ -0,0 +1,34 @@
+package com.dashboard.v1.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered request ids: 16 hex digits of (epoch millis << 16 | sequence) followed by a random
+ * per-process node suffix. One CAS per id and no SecureRandom, unlike UUID.randomUUID(). Ids from
+ * one process are strictly increasing and sort by creation time; if more than 65536 ids are taken
+ * within a millisecond the sequence borrows from the next millisecond instead of repeating.
+ */
+public final class RequestIdGenerator {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+
+    private static final int SEQUENCE_BITS = 16;
+    private static final AtomicLong LAST = new AtomicLong();
+    private static final String NODE = String.format("%06x", ThreadLocalRandom.current().nextInt(1 << 24));
+
+    private RequestIdGenerator() {
+    }
+
+    public static String next() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+        long id = LAST.updateAndGet(last -> Math.max(last + 1, now));
+        String hex = Long.toHexString(id);
+        StringBuilder builder = new StringBuilder(16 + 1 + NODE.length());
+        for (int i = hex.length(); i < 16; i++) {
+            builder.append('0');
+        }
+        return builder.append(hex).append('-').append(NODE).toString();
+    }
+}
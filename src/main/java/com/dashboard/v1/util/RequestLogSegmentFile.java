@@ -0,0 +1,347 @@
+package com.dashboard.v1.util;
+
+import com.dashboard.v1.entity.RequestLog;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * On-disk format of archived request logs. A segment is a pair of immutable files:
+ * <ul>
+ *   <li>{@code <name>.seg} - consecutive blocks of up to {@link #BLOCK_RECORDS} records, each block deflate-compressed</li>
+ *   <li>{@code <name>.idx} - one entry per block: created_at range, file offset and length, record and failure counts,
+ *   and a Bloom filter of the block's usernames</li>
+ * </ul>
+ * Readers load the small index, pick the blocks whose time range, failure count or usernames can match,
+ * and inflate only those from a memory-mapped view of the segment.
+ */
+public final class RequestLogSegmentFile {
+
+    public static final String SEGMENT_SUFFIX = ".seg";
+    public static final String INDEX_SUFFIX = ".idx";
+    public static final int BLOCK_RECORDS = 1000;
+
+    private static final int MAGIC = 0x524C4732; // "RLG2"
+    // ~1% false positives: 10 bits and 7 probes per distinct username
+    private static final int BLOOM_BITS_PER_USERNAME = 10;
+    private static final int BLOOM_PROBES = 7;
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private RequestLogSegmentFile() {
+    }
+
+    /** Index entry of one compressed block. */
+    public static final class Block {
+        public final long minCreatedAt;
+        public final long maxCreatedAt;
+        public final long offset;
+        public final int length;
+        public final int recordCount;
+        public final int failureCount;
+        private final long[] usernames;
+
+        Block(long minCreatedAt, long maxCreatedAt, long offset, int length, int recordCount, int failureCount, long[] usernames) {
+            this.minCreatedAt = minCreatedAt;
+            this.maxCreatedAt = maxCreatedAt;
+            this.offset = offset;
+            this.length = length;
+            this.recordCount = recordCount;
+            this.failureCount = failureCount;
+            this.usernames = usernames;
+        }
+
+        /** False only if no record of this block has {@code username}; true may be a false positive. */
+        public boolean mightContainUsername(String username) {
+            if (usernames.length == 0) {
+                return false;
+            }
+            long bits = (long) usernames.length * Long.SIZE;
+            long hash = mix(username.hashCode());
+            for (int i = 0; i < BLOOM_PROBES; i++) {
+                long bit = probe(hash, i, bits);
+                if ((usernames[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Writes {@code logs} (ordered by created_at) as segment {@code name} in {@code directory}. Both
+     * files are written under temporary names and moved into place index last, so readers never
+     * see a partial segment.
+     */
+    public static void write(Path directory, String name, List<RequestLog> logs) throws IOException {
+        Path segmentTmp = directory.resolve(name + SEGMENT_SUFFIX + ".tmp");
+        Path indexTmp = directory.resolve(name + INDEX_SUFFIX + ".tmp");
+        List<Block> blocks = new ArrayList<>();
+
+        try (FileOutputStream segmentOut = new FileOutputStream(segmentTmp.toFile())) {
+            long offset = 0;
+            for (int start = 0; start < logs.size(); start += BLOCK_RECORDS) {
+                List<RequestLog> chunk = logs.subList(start, Math.min(logs.size(), start + BLOCK_RECORDS));
+                byte[] compressed = deflate(encode(chunk));
+                segmentOut.write(compressed);
+
+                long min = Long.MAX_VALUE;
+                long max = Long.MIN_VALUE;
+                int failures = 0;
+                Set<String> usernames = new HashSet<>();
+                for (RequestLog log : chunk) {
+                    long createdAt = toMillis(log.getCreatedAt());
+                    min = Math.min(min, createdAt);
+                    max = Math.max(max, createdAt);
+                    if (Boolean.FALSE.equals(log.getIsSuccessful())) {
+                        failures++;
+                    }
+                    if (log.getUsername() != null) {
+                        usernames.add(log.getUsername());
+                    }
+                }
+                blocks.add(new Block(min, max, offset, compressed.length, chunk.size(), failures, bloom(usernames)));
+                offset += compressed.length;
+            }
+            segmentOut.getFD().sync();
+        }
+
+        try (DataOutputStream indexOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexTmp.toFile())))) {
+            indexOut.writeInt(MAGIC);
+            indexOut.writeInt(blocks.size());
+            for (Block block : blocks) {
+                indexOut.writeLong(block.minCreatedAt);
+                indexOut.writeLong(block.maxCreatedAt);
+                indexOut.writeLong(block.offset);
+                indexOut.writeInt(block.length);
+                indexOut.writeInt(block.recordCount);
+                indexOut.writeInt(block.failureCount);
+                indexOut.writeInt(block.usernames.length);
+                for (long word : block.usernames) {
+                    indexOut.writeLong(word);
+                }
+            }
+        }
+
+        Files.move(segmentTmp, directory.resolve(name + SEGMENT_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+        Files.move(indexTmp, directory.resolve(name + INDEX_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static List<Block> readIndex(Path indexFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a request log segment index: " + indexFile);
+            }
+            int count = in.readInt();
+            List<Block> blocks = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long minCreatedAt = in.readLong();
+                long maxCreatedAt = in.readLong();
+                long offset = in.readLong();
+                int length = in.readInt();
+                int recordCount = in.readInt();
+                int failureCount = in.readInt();
+                long[] usernames = new long[in.readInt()];
+                for (int w = 0; w < usernames.length; w++) {
+                    usernames[w] = in.readLong();
+                }
+                blocks.add(new Block(minCreatedAt, maxCreatedAt, offset, length, recordCount, failureCount, usernames));
+            }
+            return blocks;
+        }
+    }
+
+    /**
+     * Decodes the given blocks of a segment from a memory-mapped view and returns the records matching {@code filter}.
+     */
+    public static List<RequestLog> readBlocks(Path segmentFile, List<Block> blocks, Predicate<RequestLog> filter) throws IOException {
+        List<RequestLog> result = new ArrayList<>();
+        if (blocks.isEmpty()) {
+            return result;
+        }
+        try (FileChannel channel = FileChannel.open(segmentFile, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            for (Block block : blocks) {
+                if (block.offset + block.length > mapped.capacity()) {
+                    throw new IOException("Truncated request log segment: " + segmentFile);
+                }
+                byte[] compressed = new byte[block.length];
+                ByteBuffer view = mapped.duplicate();
+                view.position((int) block.offset);
+                view.get(compressed);
+                for (RequestLog log : decode(inflate(compressed), block.recordCount)) {
+                    if (filter.test(log)) {
+                        result.add(log);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public static long toMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+
+    private static long[] bloom(Set<String> usernames) {
+        if (usernames.isEmpty()) {
+            return new long[0];
+        }
+        long[] words = new long[(usernames.size() * BLOOM_BITS_PER_USERNAME + Long.SIZE - 1) / Long.SIZE];
+        long bits = (long) words.length * Long.SIZE;
+        for (String username : usernames) {
+            long hash = mix(username.hashCode());
+            for (int i = 0; i < BLOOM_PROBES; i++) {
+                long bit = probe(hash, i, bits);
+                words[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+        return words;
+    }
+
+    // Double hashing: probe i is h1 + i * h2, with both halves taken from one 64-bit hash
+    private static long probe(long hash, int i, long bits) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        return ((h1 + i * h2) & 0x7fffffffL) % bits;
+    }
+
+    // String.hashCode is fixed by the language spec, so filters stay valid across JVMs; this spreads it to 64 bits
+    private static long mix(int hashCode) {
+        long z = hashCode * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static LocalDateTime fromMillis(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZONE);
+    }
+
+    private static byte[] encode(List<RequestLog> logs) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (RequestLog log : logs) {
+            out.writeLong(log.getId() != null ? log.getId() : -1);
+            writeString(out, log.getRequestId());
+            writeString(out, log.getMethod());
+            writeString(out, log.getEndpoint());
+            writeString(out, log.getUserAgent());
+            writeString(out, log.getIpAddress());
+            writeString(out, log.getUsername());
+            writeString(out, log.getRequestBody());
+            out.writeInt(log.getResponseStatus() != null ? log.getResponseStatus() : -1);
+            writeString(out, log.getErrorMessage());
+            out.writeLong(log.getProcessingTimeMs() != null ? log.getProcessingTimeMs() : -1);
+            out.writeLong(toMillis(log.getCreatedAt()));
+            out.writeLong(log.getCompletedAt() != null ? toMillis(log.getCompletedAt()) : -1);
+            out.writeByte(log.getIsSuccessful() == null ? -1 : (log.getIsSuccessful() ? 1 : 0));
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static List<RequestLog> decode(byte[] data, int count) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        List<RequestLog> logs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RequestLog log = new RequestLog();
+            long id = in.readLong();
+            log.setId(id >= 0 ? id : null);
+            log.setRequestId(readString(in));
+            log.setMethod(readString(in));
+            log.setEndpoint(readString(in));
+            log.setUserAgent(readString(in));
+            log.setIpAddress(readString(in));
+            log.setUsername(readString(in));
+            log.setRequestBody(readString(in));
+            int status = in.readInt();
+            log.setResponseStatus(status >= 0 ? status : null);
+            log.setErrorMessage(readString(in));
+            long processingTime = in.readLong();
+            log.setProcessingTimeMs(processingTime >= 0 ? processingTime : null);
+            log.setCreatedAt(fromMillis(in.readLong()));
+            long completedAt = in.readLong();
+            log.setCompletedAt(completedAt >= 0 ? fromMillis(completedAt) : null);
+            byte successful = in.readByte();
+            log.setIsSuccessful(successful < 0 ? null : successful == 1);
+            logs.add(log);
+        }
+        return logs;
+    }
+
+    // Length-prefixed UTF-8; writeUTF would cap request bodies at 64 KB
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] compressed) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated request log block");
+                }
+                out.write(buffer, 0, inflated);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt request log block", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.dashboard.v1.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free event counter over a sliding window of fixed-width time buckets arranged as a ring.
+ * Each slot packs the bucket number (high 32 bits) with its count (low 32 bits) in one long, so a
+ * slot that still holds an old bucket is reset and incremented by a single CAS. Reads skip slots
+ * whose bucket has fallen out of the requested window.
+ */
+public class SlidingWindowCounter {
+
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final long bucketMillis;
+    private final AtomicLongArray slots;
+
+    public SlidingWindowCounter(long bucketMillis, int bucketCount) {
+        this.bucketMillis = bucketMillis;
+        this.slots = new AtomicLongArray(bucketCount);
+    }
+
+    public void increment(long nowMillis) {
+        long bucket = (nowMillis / bucketMillis) & COUNT_MASK;
+        int index = (int) (bucket % slots.length());
+        while (true) {
+            long current = slots.get(index);
+            long next = (current >>> 32) == bucket ? current + 1 : (bucket << 32) | 1;
+            if (slots.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Events in the last {@code buckets} buckets, the current (partial) bucket included.
+     */
+    public long sum(long nowMillis, int buckets) {
+        long newest = (nowMillis / bucketMillis) & COUNT_MASK;
+        int span = Math.min(buckets, slots.length());
+        long total = 0;
+        for (int i = 0; i < span; i++) {
+            long bucket = (newest - i) & COUNT_MASK;
+            long value = slots.get((int) (bucket % slots.length()));
+            if ((value >>> 32) == bucket) {
+                total += value & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+}
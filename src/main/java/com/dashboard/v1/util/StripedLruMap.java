@@ -0,0 +1,91 @@
+package com.dashboard.v1.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded map that evicts the least recently used keys, split into independently locked stripes.
+ * A key always lives in the same stripe, so threads working on different keys rarely contend, and
+ * each stripe evicts on its own once it holds its share of the capacity. Values are only touched
+ * inside the callbacks, under their stripe's lock.
+ */
+public class StripedLruMap<K, V> {
+
+    private final Stripe<K, V>[] stripes;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public StripedLruMap(int capacity, int stripeCount) {
+        int count = 1;
+        while (count < stripeCount) {
+            count <<= 1;
+        }
+        int perStripe = Math.max(1, (capacity + count - 1) / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>(perStripe);
+        }
+    }
+
+    /** Runs {@code action} on the value of {@code key}, creating it with {@code factory} if absent. */
+    public void compute(K key, Supplier<V> factory, Consumer<V> action) {
+        Stripe<K, V> stripe = stripe(key);
+        synchronized (stripe) {
+            action.accept(stripe.computeIfAbsent(key, k -> factory.get()));
+        }
+    }
+
+    /** Runs {@code action} on the value of {@code key}; returns false and does nothing if absent. */
+    public boolean computeIfPresent(K key, Consumer<V> action) {
+        Stripe<K, V> stripe = stripe(key);
+        synchronized (stripe) {
+            V value = stripe.get(key);
+            if (value == null) {
+                return false;
+            }
+            action.accept(value);
+            return true;
+        }
+    }
+
+    /** Result of {@code reader} applied to the value of {@code key}, or null if absent. */
+    public <R> R read(K key, Function<V, R> reader) {
+        Stripe<K, V> stripe = stripe(key);
+        synchronized (stripe) {
+            V value = stripe.get(key);
+            return value != null ? reader.apply(value) : null;
+        }
+    }
+
+    public V remove(K key) {
+        Stripe<K, V> stripe = stripe(key);
+        synchronized (stripe) {
+            return stripe.remove(key);
+        }
+    }
+
+    private Stripe<K, V> stripe(K key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    // Access order, so an entry that is still being updated is not the one evicted
+    private static final class Stripe<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        Stripe(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Moves quota text from the old project.quota column into project_quota and drops the column,
+ * so the project row read on the click path stays small. Skipped on databases created from V1.
+ */
+public abstract class LegacyProjectQuotaMigration extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        if (!LegacySchema.columnExists(context.getConnection().getMetaData(), "project", "quota")) {
+            return;
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        jdbcTemplate.update(
+                "INSERT INTO project_quota (project_id, quota) " +
+                "SELECT p.project_identifier, p.quota FROM project p " +
+                "WHERE p.quota IS NOT NULL AND NOT EXISTS " +
+                "(SELECT 1 FROM project_quota q WHERE q.project_id = p.project_identifier)");
+        jdbcTemplate.execute("ALTER TABLE project DROP COLUMN quota");
+    }
+}
@@ -0,0 +1,37 @@
+package db.migration;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Existence checks for the one-time migrations that retire tables and columns Hibernate created
+ * before the schema moved to Flyway. Databases created from V1 never had them.
+ */
+public final class LegacySchema {
+
+    private LegacySchema() {
+    }
+
+    public static boolean tableExists(DatabaseMetaData metaData, String table) throws SQLException {
+        for (String name : new String[]{table, table.toUpperCase()}) {
+            try (ResultSet tables = metaData.getTables(metaData.getConnection().getCatalog(), null, name, new String[]{"TABLE"})) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static boolean columnExists(DatabaseMetaData metaData, String table, String column) throws SQLException {
+        for (String[] names : new String[][]{{table, column}, {table.toUpperCase(), column.toUpperCase()}}) {
+            try (ResultSet columns = metaData.getColumns(metaData.getConnection().getCatalog(), null, names[0], names[1])) {
+                if (columns.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
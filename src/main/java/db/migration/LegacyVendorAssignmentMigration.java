@@ -0,0 +1,47 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.DatabaseMetaData;
+
+/**
+ * Moves project-vendor assignments out of the old mirrored element-collection tables
+ * (project_vendors_username, user_projects) into project_vendor_assignment and drops them.
+ * Only pairs whose project and vendor still exist are copied. The SQL is the same on H2 and
+ * MySQL; each vendor folder has a subclass so Flyway picks it up there.
+ */
+public abstract class LegacyVendorAssignmentMigration extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        DatabaseMetaData metaData = context.getConnection().getMetaData();
+
+        if (LegacySchema.tableExists(metaData, "project_vendors_username")) {
+            jdbcTemplate.update(
+                    "INSERT INTO project_vendor_assignment (project_id, vendor_username, assigned_at) " +
+                    "SELECT DISTINCT p.project_identifier, v.vendor_username, CURRENT_TIMESTAMP " +
+                    "FROM project_vendors_username v " +
+                    "JOIN project p ON p.id = v.project_id " +
+                    "JOIN users u ON u.username = v.vendor_username " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM project_vendor_assignment a " +
+                    "WHERE a.project_id = p.project_identifier AND a.vendor_username = v.vendor_username)");
+            jdbcTemplate.execute("DROP TABLE project_vendors_username");
+        }
+
+        if (LegacySchema.tableExists(metaData, "user_projects")) {
+            jdbcTemplate.update(
+                    "INSERT INTO project_vendor_assignment (project_id, vendor_username, assigned_at) " +
+                    "SELECT DISTINCT p.project_identifier, u.username, CURRENT_TIMESTAMP " +
+                    "FROM user_projects up " +
+                    "JOIN users u ON u.id = up.user_id " +
+                    "JOIN project p ON p.project_identifier = up.project_id " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM project_vendor_assignment a " +
+                    "WHERE a.project_id = p.project_identifier AND a.vendor_username = u.username)");
+            jdbcTemplate.execute("DROP TABLE user_projects");
+        }
+    }
+}
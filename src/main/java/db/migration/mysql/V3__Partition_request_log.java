@@ -0,0 +1,50 @@
+package db.migration.mysql;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Partitions request_log by day on created_at so that expired days can be dropped as whole
+ * partitions. MySQL requires the partitioning column in every unique key, so the primary key
+ * becomes (id, created_at) and the request_id unique key (whatever name Hibernate or V1 gave it)
+ * becomes (request_id, created_at). Existing rows go into p_history; RequestLogRetentionService
+ * keeps creating the daily partitions ahead of time.
+ */
+public class V3__Partition_request_log extends BaseJavaMigration {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        List<String> uniqueKeys = jdbcTemplate.queryForList(
+                "SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'request_log' " +
+                        "AND NON_UNIQUE = 0 AND INDEX_NAME <> 'PRIMARY'", String.class);
+
+        StringBuilder alter = new StringBuilder("ALTER TABLE request_log DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)");
+        for (String uniqueKey : uniqueKeys) {
+            alter.append(", DROP INDEX `").append(uniqueKey).append('`');
+        }
+        alter.append(", ADD UNIQUE KEY uk_request_log_request_id (request_id, created_at)");
+        jdbcTemplate.execute(alter.toString());
+
+        LocalDate today = LocalDate.now();
+        StringBuilder partitions = new StringBuilder("ALTER TABLE request_log PARTITION BY RANGE (TO_DAYS(created_at)) (")
+                .append("PARTITION p_history VALUES LESS THAN (TO_DAYS('").append(today).append("'))");
+        for (int i = 0; i < 7; i++) {
+            LocalDate day = today.plusDays(i);
+            partitions.append(", PARTITION ").append(day.format(PARTITION_NAME))
+                    .append(" VALUES LESS THAN (TO_DAYS('").append(day.plusDays(1)).append("'))");
+        }
+        partitions.append(", PARTITION p_future VALUES LESS THAN MAXVALUE)");
+        jdbcTemplate.execute(partitions.toString());
+    }
+}
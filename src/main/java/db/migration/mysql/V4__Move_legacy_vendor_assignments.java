@@ -0,0 +1,6 @@
+package db.migration.mysql;
+
+import db.migration.LegacyVendorAssignmentMigration;
+
+public class V4__Move_legacy_vendor_assignments extends LegacyVendorAssignmentMigration {
+}
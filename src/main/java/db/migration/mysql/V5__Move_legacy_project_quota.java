@@ -0,0 +1,6 @@
+package db.migration.mysql;
+
+import db.migration.LegacyProjectQuotaMigration;
+
+public class V5__Move_legacy_project_quota extends LegacyProjectQuotaMigration {
+}
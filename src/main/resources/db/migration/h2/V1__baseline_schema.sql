@@ -0,0 +1,181 @@
+-- Baseline of the schema previously generated by Hibernate. Every statement is IF NOT EXISTS so it
+-- can also run against a database Hibernate already created.
+
+CREATE SEQUENCE IF NOT EXISTS client_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS ip_to_country_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS loi_histogram_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS project_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS project_vendor_counts_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS request_log_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS survey_response_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS unique_ip_sketch_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS vendor_project_link_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS users (
+    id                 BIGINT       NOT NULL,
+    username           VARCHAR(255) NOT NULL,
+    password           VARCHAR(255) NOT NULL,
+    role               VARCHAR(255),
+    email              VARCHAR(255) NOT NULL,
+    company_name       VARCHAR(255) NOT NULL,
+    complete           VARCHAR(255) NOT NULL,
+    terminate          VARCHAR(255) NOT NULL,
+    quotafull          VARCHAR(255) NOT NULL,
+    security_terminate VARCHAR(255) NOT NULL,
+    user_token         VARCHAR(255) NOT NULL,
+    is_shown           VARCHAR(255),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_user_token UNIQUE (user_token)
+);
+
+CREATE TABLE IF NOT EXISTS client (
+    id           BIGINT       NOT NULL,
+    username     VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    company_name VARCHAR(255) NOT NULL,
+    token        VARCHAR(255) NOT NULL,
+    is_shown     VARCHAR(255),
+    CONSTRAINT pk_client PRIMARY KEY (id),
+    CONSTRAINT uk_client_username UNIQUE (username),
+    CONSTRAINT uk_client_token UNIQUE (token)
+);
+
+CREATE TABLE IF NOT EXISTS client_projects (
+    client_id          BIGINT NOT NULL,
+    project_identifier VARCHAR(255),
+    CONSTRAINT fk_client_projects_client FOREIGN KEY (client_id) REFERENCES client (id)
+);
+
+CREATE TABLE IF NOT EXISTS project (
+    id                       BIGINT       NOT NULL,
+    project_identifier       VARCHAR(255) NOT NULL,
+    project_identifier_token VARCHAR(255) NOT NULL,
+    status                   VARCHAR(255),
+    complete                 BIGINT,
+    terminate                BIGINT,
+    quotafull                BIGINT,
+    security_terminate       BIGINT,
+    loi                      VARCHAR(255),
+    ir                       VARCHAR(255),
+    counts                   BIGINT,
+    cpi                      VARCHAR(255),
+    created_at               TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_project PRIMARY KEY (id),
+    CONSTRAINT uk_project_identifier UNIQUE (project_identifier),
+    CONSTRAINT uk_project_identifier_token UNIQUE (project_identifier_token)
+);
+
+CREATE INDEX IF NOT EXISTS idx_project_status_created_at ON project (status, created_at);
+CREATE INDEX IF NOT EXISTS idx_project_created_at ON project (created_at);
+
+CREATE TABLE IF NOT EXISTS project_country_links (
+    project_id    BIGINT NOT NULL,
+    country       INTEGER,
+    original_link VARCHAR(255),
+    CONSTRAINT fk_project_country_links_project FOREIGN KEY (project_id) REFERENCES project (id)
+);
+
+CREATE TABLE IF NOT EXISTS project_quota (
+    project_id VARCHAR(255) NOT NULL,
+    quota      CLOB,
+    CONSTRAINT pk_project_quota PRIMARY KEY (project_id)
+);
+
+CREATE TABLE IF NOT EXISTS project_vendor_assignment (
+    project_id      VARCHAR(255) NOT NULL,
+    vendor_username VARCHAR(255) NOT NULL,
+    assigned_at     TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_project_vendor_assignment PRIMARY KEY (project_id, vendor_username)
+);
+
+CREATE INDEX IF NOT EXISTS idx_pva_vendor_project ON project_vendor_assignment (vendor_username, project_id);
+
+CREATE TABLE IF NOT EXISTS project_vendor_counts (
+    id                         BIGINT NOT NULL,
+    vendor_username            VARCHAR(255),
+    project_id                 VARCHAR(255),
+    completed_surveys          INTEGER,
+    terminated_surveys         INTEGER,
+    quota_full_surveys         INTEGER,
+    security_terminate_surveys INTEGER,
+    CONSTRAINT pk_project_vendor_counts PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS security_terminate_flag (
+    project_id VARCHAR(255) NOT NULL,
+    flag       BOOLEAN,
+    CONSTRAINT pk_security_terminate_flag PRIMARY KEY (project_id)
+);
+
+CREATE TABLE IF NOT EXISTS survey_response (
+    id              BIGINT       NOT NULL,
+    status          VARCHAR(255),
+    ip_address      VARCHAR(255),
+    start_time      TIMESTAMP(6),
+    end_time        TIMESTAMP(6),
+    country         VARCHAR(255),
+    project_id      VARCHAR(255),
+    u_id            VARCHAR(255) NOT NULL,
+    vendor_username VARCHAR(255),
+    CONSTRAINT pk_survey_response PRIMARY KEY (id),
+    CONSTRAINT uk_survey_response_u_id UNIQUE (u_id)
+);
+
+CREATE TABLE IF NOT EXISTS request_log (
+    id                 BIGINT       NOT NULL,
+    request_id         VARCHAR(255) NOT NULL,
+    method             VARCHAR(255) NOT NULL,
+    endpoint           VARCHAR(255),
+    user_agent         CLOB,
+    ip_address         VARCHAR(255),
+    username           VARCHAR(255),
+    request_body       CLOB,
+    response_status    INTEGER,
+    error_message      CLOB,
+    processing_time_ms BIGINT,
+    created_at         TIMESTAMP(6) NOT NULL,
+    completed_at       TIMESTAMP(6),
+    is_successful      BOOLEAN,
+    CONSTRAINT pk_request_log PRIMARY KEY (id),
+    CONSTRAINT uk_request_log_request_id UNIQUE (request_id)
+);
+
+CREATE TABLE IF NOT EXISTS vendor_project_link (
+    id              BIGINT NOT NULL,
+    generated_token VARCHAR(255),
+    country         VARCHAR(255),
+    original_link   VARCHAR(255),
+    project_id      VARCHAR(255),
+    vendor_id       VARCHAR(255),
+    CONSTRAINT pk_vendor_project_link PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS ip_to_country (
+    id           BIGINT NOT NULL,
+    ip_start     BIGINT,
+    ip_end       BIGINT,
+    country_code VARCHAR(255),
+    CONSTRAINT pk_ip_to_country PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS unique_ip_sketch (
+    id         BIGINT          NOT NULL,
+    scope      VARCHAR(255)    NOT NULL,
+    scope_key  VARCHAR(255)    NOT NULL,
+    sketch_day DATE            NOT NULL,
+    registers  VARBINARY(4096) NOT NULL,
+    CONSTRAINT pk_unique_ip_sketch PRIMARY KEY (id),
+    CONSTRAINT uk_unique_ip_sketch UNIQUE (scope, scope_key, sketch_day)
+);
+
+CREATE TABLE IF NOT EXISTS loi_histogram (
+    id        BIGINT          NOT NULL,
+    scope     VARCHAR(255)    NOT NULL,
+    scope_key VARCHAR(255)    NOT NULL,
+    status    VARCHAR(255)    NOT NULL,
+    buckets   VARBINARY(1024) NOT NULL,
+    CONSTRAINT pk_loi_histogram PRIMARY KEY (id),
+    CONSTRAINT uk_loi_histogram UNIQUE (scope, scope_key, status)
+);
@@ -0,0 +1,21 @@
+-- Survey counters move off project: every callback bumped them, and each bulk UPDATE on project
+-- evicted the whole project cache region along with project.countryLinks.
+
+CREATE TABLE project_counters (
+    project_id         VARCHAR(255) NOT NULL,
+    complete           BIGINT       NOT NULL DEFAULT 0,
+    terminate          BIGINT       NOT NULL DEFAULT 0,
+    quotafull          BIGINT       NOT NULL DEFAULT 0,
+    security_terminate BIGINT       NOT NULL DEFAULT 0,
+    CONSTRAINT pk_project_counters PRIMARY KEY (project_id)
+);
+
+INSERT INTO project_counters (project_id, complete, terminate, quotafull, security_terminate)
+SELECT project_identifier, COALESCE(complete, 0), COALESCE(terminate, 0), COALESCE(quotafull, 0),
+       COALESCE(security_terminate, 0)
+FROM project;
+
+ALTER TABLE project DROP COLUMN complete;
+ALTER TABLE project DROP COLUMN terminate;
+ALTER TABLE project DROP COLUMN quotafull;
+ALTER TABLE project DROP COLUMN security_terminate;
@@ -0,0 +1,190 @@
+-- Baseline of the schema previously generated by Hibernate. Every statement is IF NOT EXISTS so it
+-- can also run against a database Hibernate already created. MySQL has no sequences, so each id
+-- generator is Hibernate's single-row next_val table.
+
+CREATE TABLE IF NOT EXISTS client_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO client_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM client_seq);
+CREATE TABLE IF NOT EXISTS ip_to_country_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO ip_to_country_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM ip_to_country_seq);
+CREATE TABLE IF NOT EXISTS loi_histogram_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO loi_histogram_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM loi_histogram_seq);
+CREATE TABLE IF NOT EXISTS project_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO project_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM project_seq);
+CREATE TABLE IF NOT EXISTS project_vendor_counts_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO project_vendor_counts_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM project_vendor_counts_seq);
+CREATE TABLE IF NOT EXISTS request_log_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO request_log_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM request_log_seq);
+CREATE TABLE IF NOT EXISTS survey_response_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO survey_response_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM survey_response_seq);
+CREATE TABLE IF NOT EXISTS unique_ip_sketch_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO unique_ip_sketch_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM unique_ip_sketch_seq);
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO users_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM users_seq);
+CREATE TABLE IF NOT EXISTS vendor_project_link_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO vendor_project_link_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM vendor_project_link_seq);
+
+CREATE TABLE IF NOT EXISTS users (
+    id                 BIGINT       NOT NULL,
+    username           VARCHAR(255) NOT NULL,
+    password           VARCHAR(255) NOT NULL,
+    role               VARCHAR(255),
+    email              VARCHAR(255) NOT NULL,
+    company_name       VARCHAR(255) NOT NULL,
+    complete           VARCHAR(255) NOT NULL,
+    terminate          VARCHAR(255) NOT NULL,
+    quotafull          VARCHAR(255) NOT NULL,
+    security_terminate VARCHAR(255) NOT NULL,
+    user_token         VARCHAR(255) NOT NULL,
+    is_shown           VARCHAR(255),
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_user_token UNIQUE (user_token)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS client (
+    id           BIGINT       NOT NULL,
+    username     VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    company_name VARCHAR(255) NOT NULL,
+    token        VARCHAR(255) NOT NULL,
+    is_shown     VARCHAR(255),
+    CONSTRAINT pk_client PRIMARY KEY (id),
+    CONSTRAINT uk_client_username UNIQUE (username),
+    CONSTRAINT uk_client_token UNIQUE (token)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS client_projects (
+    client_id          BIGINT NOT NULL,
+    project_identifier VARCHAR(255),
+    CONSTRAINT fk_client_projects_client FOREIGN KEY (client_id) REFERENCES client (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS project (
+    id                       BIGINT       NOT NULL,
+    project_identifier       VARCHAR(255) NOT NULL,
+    project_identifier_token VARCHAR(255) NOT NULL,
+    status                   VARCHAR(255),
+    complete                 BIGINT,
+    terminate                BIGINT,
+    quotafull                BIGINT,
+    security_terminate       BIGINT,
+    loi                      VARCHAR(255),
+    ir                       VARCHAR(255),
+    counts                   BIGINT,
+    cpi                      VARCHAR(255),
+    created_at               DATETIME(6) NOT NULL,
+    CONSTRAINT pk_project PRIMARY KEY (id),
+    CONSTRAINT uk_project_identifier UNIQUE (project_identifier),
+    CONSTRAINT uk_project_identifier_token UNIQUE (project_identifier_token),
+    INDEX idx_project_status_created_at (status, created_at),
+    INDEX idx_project_created_at (created_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS project_country_links (
+    project_id    BIGINT NOT NULL,
+    country       INT,
+    original_link VARCHAR(255),
+    CONSTRAINT fk_project_country_links_project FOREIGN KEY (project_id) REFERENCES project (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS project_quota (
+    project_id VARCHAR(255) NOT NULL,
+    quota      LONGTEXT,
+    CONSTRAINT pk_project_quota PRIMARY KEY (project_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS project_vendor_assignment (
+    project_id      VARCHAR(255) NOT NULL,
+    vendor_username VARCHAR(255) NOT NULL,
+    assigned_at     DATETIME(6) NOT NULL,
+    CONSTRAINT pk_project_vendor_assignment PRIMARY KEY (project_id, vendor_username),
+    INDEX idx_pva_vendor_project (vendor_username, project_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS project_vendor_counts (
+    id                         BIGINT NOT NULL,
+    vendor_username            VARCHAR(255),
+    project_id                 VARCHAR(255),
+    completed_surveys          INT,
+    terminated_surveys         INT,
+    quota_full_surveys         INT,
+    security_terminate_surveys INT,
+    CONSTRAINT pk_project_vendor_counts PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS security_terminate_flag (
+    project_id VARCHAR(255) NOT NULL,
+    flag       BIT(1),
+    CONSTRAINT pk_security_terminate_flag PRIMARY KEY (project_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS survey_response (
+    id              BIGINT       NOT NULL,
+    status          VARCHAR(255),
+    ip_address      VARCHAR(255),
+    start_time      DATETIME(6),
+    end_time        DATETIME(6),
+    country         VARCHAR(255),
+    project_id      VARCHAR(255),
+    u_id            VARCHAR(255) NOT NULL,
+    vendor_username VARCHAR(255),
+    CONSTRAINT pk_survey_response PRIMARY KEY (id),
+    CONSTRAINT uk_survey_response_u_id UNIQUE (u_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS request_log (
+    id                 BIGINT       NOT NULL,
+    request_id         VARCHAR(255) NOT NULL,
+    method             VARCHAR(255) NOT NULL,
+    endpoint           VARCHAR(255),
+    user_agent         LONGTEXT,
+    ip_address         VARCHAR(255),
+    username           VARCHAR(255),
+    request_body       LONGTEXT,
+    response_status    INT,
+    error_message      LONGTEXT,
+    processing_time_ms BIGINT,
+    created_at         DATETIME(6) NOT NULL,
+    completed_at       DATETIME(6),
+    is_successful      BIT(1),
+    CONSTRAINT pk_request_log PRIMARY KEY (id),
+    CONSTRAINT uk_request_log_request_id UNIQUE (request_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS vendor_project_link (
+    id              BIGINT NOT NULL,
+    generated_token VARCHAR(255),
+    country         VARCHAR(255),
+    original_link   VARCHAR(255),
+    project_id      VARCHAR(255),
+    vendor_id       VARCHAR(255),
+    CONSTRAINT pk_vendor_project_link PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ip_to_country (
+    id           BIGINT NOT NULL,
+    ip_start     BIGINT,
+    ip_end       BIGINT,
+    country_code VARCHAR(255),
+    CONSTRAINT pk_ip_to_country PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS unique_ip_sketch (
+    id         BIGINT          NOT NULL,
+    scope      VARCHAR(255)    NOT NULL,
+    scope_key  VARCHAR(255)    NOT NULL,
+    sketch_day DATE            NOT NULL,
+    registers  VARBINARY(4096) NOT NULL,
+    CONSTRAINT pk_unique_ip_sketch PRIMARY KEY (id),
+    CONSTRAINT uk_unique_ip_sketch UNIQUE (scope, scope_key, sketch_day)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS loi_histogram (
+    id        BIGINT          NOT NULL,
+    scope     VARCHAR(255)    NOT NULL,
+    scope_key VARCHAR(255)    NOT NULL,
+    status    VARCHAR(255)    NOT NULL,
+    buckets   VARBINARY(1024) NOT NULL,
+    CONSTRAINT pk_loi_histogram PRIMARY KEY (id),
+    CONSTRAINT uk_loi_histogram UNIQUE (scope, scope_key, status)
+) ENGINE = InnoDB;
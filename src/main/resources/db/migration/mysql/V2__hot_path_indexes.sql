@@ -0,0 +1,15 @@
+-- Indexes for the lookups on the click, callback, vendor listing and monitoring paths.
+
+-- Duplicate-IP check on the click path and per-project response counts
+CREATE INDEX idx_sr_project_ip ON survey_response (project_id, ip_address);
+CREATE INDEX idx_sr_project_status ON survey_response (project_id, status);
+CREATE INDEX idx_sr_vendor_project ON survey_response (vendor_username, project_id);
+-- Keyset pages, newest first by (start_time, id)
+CREATE INDEX idx_sr_start_time ON survey_response (start_time DESC, id DESC);
+
+CREATE INDEX idx_pvc_vendor_project ON project_vendor_counts (vendor_username, project_id);
+
+-- Time-range scans and retention; failed-request pages; per-user pages
+CREATE INDEX idx_rl_created_successful ON request_log (created_at, is_successful);
+CREATE INDEX idx_rl_failed_created ON request_log (is_successful, created_at DESC, id DESC);
+CREATE INDEX idx_rl_username_created ON request_log (username, created_at DESC, id DESC);
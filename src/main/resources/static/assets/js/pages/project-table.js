@@ -1,7 +1,6 @@
 // Project Table Page JavaScript
 
 let dataTable; // Global reference to DataTable instance
-let allProjects = []; // Store all projects data
 
 document.addEventListener("DOMContentLoaded", function () {
     const token = localStorage.getItem("jwtToken");
@@ -14,124 +13,62 @@ document.addEventListener("DOMContentLoaded", function () {
     // Initialize filter button handlers
     initializeFilterButtons();
 
-    fetchAndPopulateTable(token);
+    initializeDataTable();
 });
 
-// Fetch data and populate table
-function fetchAndPopulateTable(token, statusFilter = 'ALL') {
-    fetch('/projects/table-data', {
-        method: "GET",
-        headers: {
-            "Authorization": "Bearer " + token,
-            "Content-Type": "application/json"
-        }
-    })
-    .then(response => {
-        if (response.status === 401) {
-            alert("Session expired. Please log in again.");
-            localStorage.removeItem('jwtToken');
-            window.location.href = "/login";
-            return;
-        }
-        return response.json();
-    })
-    .then(data => {
-        if (!Array.isArray(data)) {
-            console.error("Invalid data format:", data);
-            return;
-        }
-
-        // Store all projects
-        allProjects = data;
-
-        // Filter projects based on status
-        let filteredProjects = statusFilter === 'ALL'
-            ? data
-            : data.filter(project => project.status === statusFilter);
-
-        populateTable(filteredProjects);
-    })
-    .catch(error => console.error('Error fetching projects:', error));
+// Status of the active filter button, or null for ALL
+function currentStatusFilter() {
+    const activeFilterBtn = document.querySelector('.filter-btn.active');
+    const status = activeFilterBtn ? activeFilterBtn.getAttribute('data-status') : 'ALL';
+    return status === 'ALL' ? null : status;
 }
 
-// Populate table with filtered data
-function populateTable(projects) {
-    let tableBody = document.querySelector("#example tbody");
-
-    if (!tableBody) {
-        console.error("Table body not found!");
-        return;
+// Re-fetch the current page from the server, keeping the paging position
+function reloadTable() {
+    if (dataTable) {
+        dataTable.ajax.reload(null, false);
     }
+}
 
-    // Destroy existing DataTable if it exists
-    if ($.fn.DataTable.isDataTable('#example')) {
-        $('#example').DataTable().clear().destroy();
-    }
+function renderStatusCell(status, project) {
+    return `
+        <select class="form-select status-select ${getStatusSelectClass(status)}"
+                data-project-id="${project.projectIdentifier}"
+                data-current-status="${status}">
+            <option value="ACTIVE" ${status === 'ACTIVE' ? 'selected' : ''}>ACTIVE</option>
+            <option value="INACTIVE" ${status === 'INACTIVE' ? 'selected' : ''}>INACTIVE</option>
+            <option value="CLOSED" ${status === 'CLOSED' ? 'selected' : ''}>CLOSED</option>
+            <option value="INVOICED" ${status === 'INVOICED' ? 'selected' : ''}>INVOICED</option>
+        </select>`;
+}
 
-    tableBody.innerHTML = ""; // Clear table before adding new data
-
-    projects.forEach(project => {
-        let row = document.createElement("tr");
-
-
-        // Store LOI, IR, Quota for the details modal
-        row.setAttribute('data-loi', project.loi || 'N/A');
-        row.setAttribute('data-ir', project.ir || 'N/A');
-        row.setAttribute('data-quota', project.quota || 'N/A');
-        row.setAttribute('data-cpi', project.cpi || 'N/A');
-
-        row.innerHTML = `
-            <td>${project.projectIdentifier}</td>
-            <td>
-                <select class="form-select status-select ${getStatusSelectClass(project.status)}"
-                        data-project-id="${project.projectIdentifier}"
-                        data-current-status="${project.status}">
-                    <option value="ACTIVE" ${project.status === 'ACTIVE' ? 'selected' : ''}>ACTIVE</option>
-                    <option value="INACTIVE" ${project.status === 'INACTIVE' ? 'selected' : ''}>INACTIVE</option>
-                    <option value="CLOSED" ${project.status === 'CLOSED' ? 'selected' : ''}>CLOSED</option>
-                    <option value="INVOICED" ${project.status === 'INVOICED' ? 'selected' : ''}>INVOICED</option>
-                </select>
-            </td>
-            <td>${project.complete}</td>
-            <td>${project.terminate}</td>
-            <td>${project.quotafull}</td>
-            <td>${project.securityTerminate}</td>
-            <td>
-                <div class="d-flex align-items-center">
-                    <input type="number"
-                           class="form-control form-control-sm counts-input"
-                           value="${project.counts || 0}"
-                           data-project-id="${project.projectIdentifier}"
-                           data-original-value="${project.counts || 0}"
-                           min="0"
-                           style="width: 80px; margin-right: 5px;">
-                    <button type="button"
-                            class="btn btn-sm btn-primary save-counts"
-                            data-project-id="${project.projectIdentifier}"
-                            title="Save Counts">
-                        <i class="fas fa-save"></i>
-                    </button>
-                </div>
-            </td>
-            <td>
-                <button type="button" class="btn btn-success view-vendors">View Vendors</button>
-            </td>
-            <td>
-                <button type="button" class="btn btn-info view-details">View Details</button>
-            </td>
-            <td>
-                <button type="button"
-                        class="btn btn-sm btn-danger delete-project"
-                        data-project-id="${project.projectIdentifier}"
-                        title="Delete Project">
-                    <i class="fas fa-trash"></i>
-                </button>
-            </td>
-        `;
-        tableBody.appendChild(row);
-    });
+function renderCountsCell(counts, project) {
+    return `
+        <div class="d-flex align-items-center">
+            <input type="number"
+                   class="form-control form-control-sm counts-input"
+                   value="${counts || 0}"
+                   data-project-id="${project.projectIdentifier}"
+                   data-original-value="${counts || 0}"
+                   min="0"
+                   style="width: 80px; margin-right: 5px;">
+            <button type="button"
+                    class="btn btn-sm btn-primary save-counts"
+                    data-project-id="${project.projectIdentifier}"
+                    title="Save Counts">
+                <i class="fas fa-save"></i>
+            </button>
+        </div>`;
+}
 
-    initializeDataTable();
+function renderDeleteCell(project) {
+    return `
+        <button type="button"
+                class="btn btn-sm btn-danger delete-project"
+                data-project-id="${project.projectIdentifier}"
+                title="Delete Project">
+            <i class="fas fa-trash"></i>
+        </button>`;
 }
 
 // Initialize filter buttons
@@ -140,21 +77,15 @@ function initializeFilterButtons() {
 
     filterButtons.forEach(button => {
         button.addEventListener('click', function() {
-            const status = this.getAttribute('data-status');
-            const token = localStorage.getItem("jwtToken");
-
             // Remove active class from all buttons
             filterButtons.forEach(btn => btn.classList.remove('active'));
 
             // Add active class to clicked button
             this.classList.add('active');
 
-            // Filter and display projects
-            if (status === 'ALL') {
-                populateTable(allProjects);
-            } else {
-                const filteredProjects = allProjects.filter(project => project.status === status);
-                populateTable(filteredProjects);
+            // The status filter is applied server-side, starting again from the first page
+            if (dataTable) {
+                dataTable.ajax.reload();
             }
         });
     });
@@ -210,23 +141,8 @@ document.addEventListener('change', function (event) {
                 // Update the select element styling based on new status
                 selectElement.className = `form-select status-select ${getStatusSelectClass(updatedStatus)}`;
 
-                // Update the project in allProjects array
-                const projectIndex = allProjects.findIndex(p => p.projectIdentifier === projectId);
-                if (projectIndex !== -1) {
-                    allProjects[projectIndex].status = updatedStatus;
-                }
-
-
                 // Refresh the table with current filter
-                const activeFilterBtn = document.querySelector('.filter-btn.active');
-                const currentFilter = activeFilterBtn ? activeFilterBtn.getAttribute('data-status') : 'ALL';
-
-                if (currentFilter === 'ALL') {
-                    populateTable(allProjects);
-                } else {
-                    const filteredProjects = allProjects.filter(project => project.status === currentFilter);
-                    populateTable(filteredProjects);
-                }
+                reloadTable();
 
             } else if (data && data.error) {
                 alert("Failed to update status: " + data.error);
@@ -315,12 +231,6 @@ document.addEventListener('click', function (event) {
                 // Update was successful
                 input.setAttribute('data-original-value', data.counts);
 
-                // Update the project in allProjects array
-                const projectIndex = allProjects.findIndex(p => p.projectIdentifier === projectId);
-                if (projectIndex !== -1) {
-                    allProjects[projectIndex].counts = data.counts;
-                }
-
                 // Show visual feedback
                 button.classList.add('btn-success');
                 button.classList.remove('btn-primary');
@@ -364,16 +274,32 @@ document.addEventListener('click', function (event) {
         const projectId = row.children[0].innerText;
         const loi = row.getAttribute('data-loi');
         const ir = row.getAttribute('data-ir');
-        const quota = row.getAttribute('data-quota');
         const cpi = row.getAttribute('data-cpi');
 
         // Populate the details modal
         document.getElementById('detailsProjectId').textContent = projectId;
         document.getElementById('detailsLOI').textContent = loi;
         document.getElementById('detailsIR').textContent = ir;
-        document.getElementById('detailsQuota').textContent = quota;
+        document.getElementById('detailsQuota').textContent = 'Loading...';
         document.getElementById('detailsCpi').textContent = cpi;
 
+        // Quota can be large, so it is only loaded for the project being viewed
+        fetch(`/projects/quota/${encodeURIComponent(projectId)}`, {
+            method: "GET",
+            headers: {
+                "Authorization": "Bearer " + localStorage.getItem("jwtToken"),
+                "Content-Type": "application/json"
+            }
+        })
+        .then(response => response.json())
+        .then(data => {
+            document.getElementById('detailsQuota').textContent = (data && data.quota) || 'N/A';
+        })
+        .catch(error => {
+            console.error('Error fetching project quota:', error);
+            document.getElementById('detailsQuota').textContent = 'N/A';
+        });
+
         // Show the modal using Bootstrap's API
         const detailsModal = new bootstrap.Modal(document.getElementById('detailsModal'));
         detailsModal.show();
@@ -414,23 +340,8 @@ document.addEventListener('click', function (event) {
         })
         .then(data => {
             if (data && data.success) {
-                // Delete was successful
-                // Remove project from allProjects array
-                const projectIndex = allProjects.findIndex(p => p.projectIdentifier === projectId);
-                if (projectIndex !== -1) {
-                    allProjects.splice(projectIndex, 1);
-                }
-
-                // Refresh the table with current filter
-                const activeFilterBtn = document.querySelector('.filter-btn.active');
-                const currentFilter = activeFilterBtn ? activeFilterBtn.getAttribute('data-status') : 'ALL';
-
-                if (currentFilter === 'ALL') {
-                    populateTable(allProjects);
-                } else {
-                    const filteredProjects = allProjects.filter(project => project.status === currentFilter);
-                    populateTable(filteredProjects);
-                }
+                // Delete was successful, refresh the table with current filter
+                reloadTable();
 
             } else if (data && data.error) {
                 alert("Failed to delete project: " + data.error);
@@ -522,19 +433,66 @@ document.addEventListener('click', function (event) {
 });
 
 function initializeDataTable() {
-    var allText = window.allText || 'All';
     dataTable = $("#example").DataTable({
         responsive: true,
-        lengthMenu: [
-            [10, 20, 50, 100, -1],
-            [10, 20, 50, 100, allText]
-        ],
+        serverSide: true,
+        processing: true,
+        lengthMenu: [10, 20, 50, 100, 500],
         pageLength: 100,
         dom: 'lfrtip',
         language: {
-            search: "Search Table:",
+            search: "Search Project ID:",
             lengthMenu: "Show _MENU_ entries",
         },
-        order: [] // No initial sorting - preserve API order (newest projects first by createdAt DESC)
+        searchDelay: 400,
+        // Paging, sorting and filtering run on /projects/table-page; newest projects first by default
+        order: [],
+        ajax: function (request, callback) {
+            const status = currentStatusFilter();
+            const params = $.param(status ? Object.assign({}, request, { status: status }) : request);
+            fetch('/projects/table-page?' + params, {
+                method: "GET",
+                headers: {
+                    "Authorization": "Bearer " + localStorage.getItem("jwtToken"),
+                    "Content-Type": "application/json"
+                }
+            })
+            .then(response => {
+                if (response.status === 401) {
+                    alert("Session expired. Please log in again.");
+                    localStorage.removeItem('jwtToken');
+                    window.location.href = "/login";
+                    return;
+                }
+                return response.json();
+            })
+            .then(data => {
+                if (!data || !Array.isArray(data.data)) {
+                    console.error("Invalid data format:", data);
+                    callback({ draw: request.draw, recordsTotal: 0, recordsFiltered: 0, data: [] });
+                    return;
+                }
+                callback(data);
+            })
+            .catch(error => console.error('Error fetching projects:', error));
+        },
+        // Store LOI, IR, CPI for the details modal (quota is fetched when the modal opens)
+        createdRow: function (row, project) {
+            row.setAttribute('data-loi', project.loi || 'N/A');
+            row.setAttribute('data-ir', project.ir || 'N/A');
+            row.setAttribute('data-cpi', project.cpi || 'N/A');
+        },
+        columns: [
+            { data: 'projectIdentifier' },
+            { data: 'status', render: (status, type, project) => renderStatusCell(status, project) },
+            { data: 'complete', orderable: false },
+            { data: 'terminate', orderable: false },
+            { data: 'quotafull', orderable: false },
+            { data: 'securityTerminate', orderable: false },
+            { data: 'counts', orderable: false, render: (counts, type, project) => renderCountsCell(counts, project) },
+            { data: null, orderable: false, defaultContent: '<button type="button" class="btn btn-success view-vendors">View Vendors</button>' },
+            { data: null, orderable: false, defaultContent: '<button type="button" class="btn btn-info view-details">View Details</button>' },
+            { data: null, orderable: false, render: (data, type, project) => renderDeleteCell(project) }
+        ]
     });
-}
\ No newline at end of file
+}
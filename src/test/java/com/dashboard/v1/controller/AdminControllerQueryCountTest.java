@@ -0,0 +1,151 @@
+package com.dashboard.v1.controller;
+
+import com.dashboard.v1.entity.*;
+import com.dashboard.v1.model.response.GetClientResponse;
+import com.dashboard.v1.model.response.GetVendorResponse;
+import com.dashboard.v1.repository.ClientRepository;
+import com.dashboard.v1.repository.ProjectCountersRepository;
+import com.dashboard.v1.repository.ProjectRepository;
+import com.dashboard.v1.repository.ProjectVendorAssignmentRepository;
+import com.dashboard.v1.repository.ProjectVendorCountsRepository;
+import com.dashboard.v1.repository.UserRepository;
+import com.neovisionaries.i18n.CountryCode;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class AdminControllerQueryCountTest {
+
+    private static final int PROJECT_COUNT = 25;
+
+    @Autowired
+    private AdminController adminController;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectCountersRepository projectCountersRepository;
+
+    @Autowired
+    private ProjectVendorCountsRepository projectVendorCountsRepository;
+
+    @Autowired
+    private ProjectVendorAssignmentRepository projectVendorAssignmentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void vendorProjectsUseConstantQueryCount() {
+        List<String> projectIds = seedProjects("qc-vendor");
+
+        User vendor = new User();
+        vendor.setUsername("qc-vendor");
+        vendor.setPassword("x");
+        vendor.setRole(Role.VENDOR);
+        vendor.setEmail("qc@vendor.test");
+        vendor.setCompanyName("QC");
+        vendor.setComplete("");
+        vendor.setTerminate("");
+        vendor.setQuotafull("");
+        vendor.setSecurityTerminate("");
+        userRepository.save(vendor);
+
+        for (String projectId : projectIds) {
+            projectVendorAssignmentRepository.save(new ProjectVendorAssignment(projectId, "qc-vendor"));
+
+            ProjectVendorCounts counts = new ProjectVendorCounts();
+            counts.setVendorUsername("qc-vendor");
+            counts.setProjectId(projectId);
+            counts.setCompletedSurveys(1);
+            counts.setTerminatedSurveys(2);
+            counts.setQuotaFullSurveys(3);
+            counts.setSecurityTerminateSurveys(4);
+            projectVendorCountsRepository.save(counts);
+        }
+
+        Statistics statistics = resetStatistics();
+        List<GetVendorResponse> response = adminController.getVendorProjects("qc-vendor").getBody();
+
+        assertEquals(PROJECT_COUNT, response.size());
+        assertEquals(2, response.get(0).getLinks().size());
+        // vendor, assigned project ids, projects + links, counts
+        assertTrue(statistics.getPrepareStatementCount() <= 4,
+                "expected at most 4 statements, got " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void clientProjectsUseConstantQueryCount() {
+        List<String> projectIds = seedProjects("qc-client");
+
+        Client client = new Client();
+        client.setUsername("qc-client");
+        client.setEmail("qc@client.test");
+        client.setCompanyName("QC");
+        client.setProjects(new ArrayList<>(projectIds));
+        clientRepository.save(client);
+
+        Statistics statistics = resetStatistics();
+        List<GetClientResponse> response = adminController.getClientProjects("qc-client").getBody();
+
+        assertEquals(PROJECT_COUNT, response.size());
+        // client, client.projects, project counters
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "expected at most 3 statements, got " + statistics.getPrepareStatementCount());
+    }
+
+    private List<String> seedProjects(String prefix) {
+        List<String> projectIds = new ArrayList<>();
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            CountryLink us = new CountryLink();
+            us.setCountry(CountryCode.US);
+            us.setOriginalLink("https://survey.test/us?uid=[AMI]");
+            CountryLink in = new CountryLink();
+            in.setCountry(CountryCode.IN);
+            in.setOriginalLink("https://survey.test/in?uid=[AMI]");
+
+            Project project = new Project();
+            project.setProjectIdentifier(prefix + "-p" + i);
+            project.setProjectIdentifierToken(prefix + "-t" + i);
+            project.setCounts(100L);
+            project.setCountryLinks(new ArrayList<>(Arrays.asList(us, in)));
+            projectRepository.save(project);
+            projectCountersRepository.save(new ProjectCounters(project.getProjectIdentifier()));
+            projectIds.add(project.getProjectIdentifier());
+        }
+        return projectIds;
+    }
+
+    // Push seeded rows to the DB and empty the persistence context so the controller really queries
+    private Statistics resetStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
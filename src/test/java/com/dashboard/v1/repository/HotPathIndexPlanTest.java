@@ -0,0 +1,148 @@
+package com.dashboard.v1.repository;
+
+import com.dashboard.v1.entity.ProjectStatus;
+import com.dashboard.v1.entity.SurveyStatus;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Calls the hot-path repository methods against the migrated H2 schema, captures the SQL Hibernate
+ * actually sends, and fails if the EXPLAIN plan of any of those statements is a full table scan.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.dashboard.v1.repository.HotPathIndexPlanTest$CapturingStatementInspector")
+class HotPathIndexPlanTest {
+
+    private static final LocalDateTime TS = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final PageRequest PAGE = PageRequest.of(0, 51);
+
+    @Autowired
+    private SurveyResponseRepository surveyResponseRepository;
+
+    @Autowired
+    private ProjectVendorCountsRepository projectVendorCountsRepository;
+
+    @Autowired
+    private RequestLogRepository requestLogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectVendorAssignmentRepository projectVendorAssignmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void surveyResponseQueriesUseAnIndex() {
+        assertIndexed("findByUId", () -> surveyResponseRepository.findByUId("plan-u"));
+        assertIndexed("findByProjectId", () -> surveyResponseRepository.findByProjectId("plan-p"));
+        assertIndexed("findByVendorUsername", () -> surveyResponseRepository.findByVendorUsername("plan-v"));
+        assertIndexed("findByIpAddress", () -> surveyResponseRepository.findByIpAddress("1.2.3.4", "plan-p"));
+        assertIndexed("countByProjectIdAndStatus",
+                () -> surveyResponseRepository.countByProjectIdAndStatus("plan-p", SurveyStatus.IN_PROGRESS));
+        assertIndexed("findFirstPageOrderByStartTime", () -> surveyResponseRepository.findFirstPageOrderByStartTime(PAGE));
+        assertIndexed("findPageOrderByStartTimeAfter",
+                () -> surveyResponseRepository.findPageOrderByStartTimeAfter(TS, 10L, PAGE));
+    }
+
+    @Test
+    void vendorCountQueriesUseAnIndex() {
+        assertIndexed("findByVendorUsernameAndProjectId",
+                () -> projectVendorCountsRepository.findByVendorUsernameAndProjectId("plan-v", "plan-p"));
+        assertIndexed("findByVendorUsernameAndProjectIdIn",
+                () -> projectVendorCountsRepository.findByVendorUsernameAndProjectIdIn("plan-v", Arrays.asList("p1", "p2")));
+    }
+
+    @Test
+    void requestLogQueriesUseAnIndex() {
+        assertIndexed("findByRequestId", () -> requestLogRepository.findByRequestId("plan-r"));
+        assertIndexed("findByIsSuccessfulFalse", () -> requestLogRepository.findByIsSuccessfulFalse());
+        assertIndexed("findByCreatedAtBetween", () -> requestLogRepository.findByCreatedAtBetween(TS, TS.plusDays(1)));
+        assertIndexed("countFailedRequestsSince", () -> requestLogRepository.countFailedRequestsSince(TS));
+        assertIndexed("findFailedPageAfter", () -> requestLogRepository.findFailedPageAfter(TS, 10L, PAGE));
+        assertIndexed("findByUsernamePageAfter",
+                () -> requestLogRepository.findByUsernamePageAfter("plan-u", TS, 10L, PAGE));
+    }
+
+    @Test
+    void lookupQueriesUseAnIndex() {
+        assertIndexed("findByToken", () -> userRepository.findByToken("plan-token"));
+        assertIndexed("findByUsername", () -> userRepository.findByUsername("plan-user"));
+        assertIndexed("findByProjectIdentifierToken", () -> projectRepository.findByProjectIdentifierToken("plan-token"));
+        assertIndexed("findSummariesByStatus", () -> projectRepository.findSummariesByStatus(ProjectStatus.ACTIVE));
+        assertIndexed("findProjectIdsByVendorUsername",
+                () -> projectVendorAssignmentRepository.findProjectIdsByVendorUsername("plan-v"));
+    }
+
+    private void assertIndexed(String name, Runnable repositoryCall) {
+        CapturingStatementInspector.reset();
+        repositoryCall.run();
+        List<String> statements = CapturingStatementInspector.captured();
+        assertFalse(statements.isEmpty(), name + " issued no SQL");
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertFalse(plan.contains("tableScan"), name + " does a table scan: " + plan);
+        }
+    }
+
+    // The plan is fixed when the statement is prepared, so the bound values do not matter
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+
+        static void reset() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+
+        static List<String> captured() {
+            synchronized (STATEMENTS) {
+                return new ArrayList<>(STATEMENTS);
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.dashboard.v1.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationHistogramTest {
+
+    @Test
+    void emptyHistogramReportsZero() {
+        DurationHistogram histogram = new DurationHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.percentile(0.5));
+        assertEquals(0.0, histogram.mean(), 0.0);
+    }
+
+    @Test
+    void percentilesOverstateByAtMostTenPercent() {
+        for (long seconds = 1; seconds < 6 * 3600; seconds = seconds * 5 / 4 + 1) {
+            DurationHistogram histogram = new DurationHistogram();
+            histogram.record(seconds);
+            long reported = histogram.percentile(0.5);
+
+            assertTrue(reported >= seconds, seconds + " reported as " + reported);
+            assertTrue(reported <= Math.ceil(seconds * 1.1) + 1, seconds + " reported as " + reported);
+        }
+    }
+
+    @Test
+    void percentileFollowsRank() {
+        DurationHistogram histogram = new DurationHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(60);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(1200);
+        }
+
+        long median = histogram.percentile(0.5);
+        long p95 = histogram.percentile(0.95);
+        assertTrue(median >= 60 && median <= 66, "median " + median);
+        assertTrue(p95 >= 1200 && p95 <= 1320, "p95 " + p95);
+        assertEquals(174.0, histogram.mean(), 0.001);
+    }
+
+    @Test
+    void negativeAndHugeDurationsAreClamped() {
+        DurationHistogram histogram = new DurationHistogram();
+        histogram.record(-5);
+        assertTrue(histogram.percentile(1.0) <= 1);
+
+        histogram.record(Long.MAX_VALUE / 2);
+        assertEquals(2, histogram.getCount());
+        assertTrue(histogram.percentile(1.0) > 0);
+    }
+
+    @Test
+    void mergeAndBytesRoundTrip() {
+        DurationHistogram first = new DurationHistogram();
+        DurationHistogram second = new DurationHistogram();
+        for (int i = 1; i <= 100; i++) {
+            (i % 2 == 0 ? first : second).record(i * 30L);
+        }
+
+        first.merge(second);
+        DurationHistogram copy = DurationHistogram.fromBytes(first.toBytes());
+
+        assertEquals(100, copy.getCount());
+        assertEquals(first.mean(), copy.mean(), 0.0);
+        assertEquals(first.percentile(0.9), copy.percentile(0.9));
+        assertThrows(IllegalArgumentException.class, () -> DurationHistogram.fromBytes(new byte[8]));
+    }
+}
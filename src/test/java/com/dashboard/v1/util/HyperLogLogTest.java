@@ -0,0 +1,69 @@
+package com.dashboard.v1.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertEquals(0, new HyperLogLog().estimate());
+    }
+
+    @Test
+    void estimatesStayWithinFourStandardErrors() {
+        for (int distinct : new int[]{10, 1_000, 10_000, 100_000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < distinct; i++) {
+                sketch.add("10.0." + (i >>> 8) + "." + (i & 0xff));
+            }
+            double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+            assertTrue(error <= 4 * HyperLogLog.standardError(), distinct + " estimated as " + sketch.estimate());
+        }
+    }
+
+    @Test
+    void duplicatesDoNotChangeTheEstimate() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 5_000; i++) {
+            sketch.add("ip-" + i);
+        }
+        long estimate = sketch.estimate();
+        for (int i = 0; i < 5_000; i++) {
+            sketch.add("ip-" + i);
+        }
+
+        assertEquals(estimate, sketch.estimate());
+    }
+
+    @Test
+    void mergeEqualsTheUnionAndIsIdempotent() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        HyperLogLog union = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) {
+            (i % 2 == 0 ? first : second).add("ip-" + i);
+            union.add("ip-" + i);
+        }
+
+        first.merge(second);
+        assertArrayEquals(union.toBytes(), first.toBytes());
+
+        first.merge(second);
+        assertEquals(union.estimate(), first.estimate());
+    }
+
+    @Test
+    void roundTripsThroughBytes() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 3_000; i++) {
+            sketch.add("ip-" + i);
+        }
+
+        HyperLogLog copy = HyperLogLog.fromBytes(sketch.toBytes());
+
+        assertEquals(sketch.estimate(), copy.estimate());
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[10]));
+    }
+}
@@ -0,0 +1,61 @@
+package com.dashboard.v1.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void smallValuesHaveExactBuckets() {
+        for (long nanos = 0; nanos < 128; nanos++) {
+            int bucket = LatencyHistogram.bucketOf(nanos);
+            assertEquals(nanos, bucket);
+            assertEquals(nanos, LatencyHistogram.upperBound(bucket));
+        }
+    }
+
+    @Test
+    void everyValueLiesWithinItsBucketBounds() {
+        for (long nanos = 1; nanos < (1L << 42); nanos = nanos * 3 / 2 + 1) {
+            for (long value : new long[]{nanos - 1, nanos, nanos + 1}) {
+                int bucket = LatencyHistogram.bucketOf(value);
+                long upper = LatencyHistogram.upperBound(bucket);
+                long lower = bucket == 0 ? 0 : LatencyHistogram.upperBound(bucket - 1) + 1;
+                assertTrue(lower <= value && value <= upper, value + " outside bucket " + bucket + " [" + lower + ", " + upper + "]");
+                // Overstatement stays under 1/64 of the value
+                assertTrue(upper - value <= value / 64, "bucket " + bucket + " too wide for " + value);
+            }
+        }
+    }
+
+    @Test
+    void bucketsAreContiguousAndIncreasing() {
+        for (int bucket = 1; bucket < LatencyHistogram.BUCKET_COUNT; bucket++) {
+            long previous = LatencyHistogram.upperBound(bucket - 1);
+            assertEquals(bucket, LatencyHistogram.bucketOf(previous + 1));
+            assertTrue(LatencyHistogram.upperBound(bucket) > previous);
+        }
+    }
+
+    @Test
+    void outOfRangeValuesAreClamped() {
+        assertEquals(0, LatencyHistogram.bucketOf(-5));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+    }
+
+    @Test
+    void percentileReturnsUpperBoundOfTheRankBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentile(0.99));
+
+        histogram.add(LatencyHistogram.bucketOf(1_000_000), 99);
+        histogram.add(LatencyHistogram.bucketOf(50_000_000), 1);
+
+        assertEquals(100, histogram.getTotalCount());
+        assertEquals(LatencyHistogram.upperBound(LatencyHistogram.bucketOf(1_000_000)), histogram.percentile(0.5));
+        assertEquals(LatencyHistogram.upperBound(LatencyHistogram.bucketOf(1_000_000)), histogram.percentile(0.99));
+        assertEquals(LatencyHistogram.upperBound(LatencyHistogram.bucketOf(50_000_000)), histogram.percentile(0.999));
+    }
+}
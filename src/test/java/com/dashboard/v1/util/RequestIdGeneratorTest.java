@@ -0,0 +1,59 @@
+package com.dashboard.v1.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestIdGeneratorTest {
+
+    @Test
+    void idsAreFixedWidthAndStrictlyIncreasing() {
+        String previous = RequestIdGenerator.next();
+        // More than 65536 ids, so some milliseconds overflow their sequence
+        for (int i = 0; i < 200_000; i++) {
+            String id = RequestIdGenerator.next();
+            assertEquals(previous.length(), id.length());
+            assertTrue(id.compareTo(previous) > 0, id + " not after " + previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    void idsStartWithTheCreationTime() {
+        long before = System.currentTimeMillis();
+        String id = RequestIdGenerator.next();
+        long millis = Long.parseLong(id.substring(0, 16), 16) >>> 16;
+
+        assertTrue(id.matches("[0-9a-f]{16}-[0-9a-f]{6}"), id);
+        // Never behind the clock; ahead only when earlier bursts borrowed from later milliseconds
+        assertTrue(millis >= before, millis + " before " + before);
+    }
+
+    @Test
+    void concurrentCallersNeverShareAnId() throws InterruptedException {
+        ConcurrentLinkedQueue<String> ids = new ConcurrentLinkedQueue<>();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    ids.add(RequestIdGenerator.next());
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Set<String> unique = new HashSet<>(ids);
+        assertEquals(80_000, unique.size());
+    }
+}
@@ -0,0 +1,144 @@
+package com.dashboard.v1.util;
+
+import com.dashboard.v1.entity.RequestLog;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLogSegmentFileTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripsEveryFieldAcrossBlocks() throws IOException {
+        List<RequestLog> logs = logs(2500);
+        RequestLogSegmentFile.write(directory, "segment", logs);
+
+        List<RequestLogSegmentFile.Block> blocks = RequestLogSegmentFile.readIndex(directory.resolve("segment.idx"));
+        assertEquals(3, blocks.size());
+        assertEquals(RequestLogSegmentFile.BLOCK_RECORDS, blocks.get(0).recordCount);
+        assertEquals(500, blocks.get(2).recordCount);
+        assertEquals(RequestLogSegmentFile.toMillis(START), blocks.get(0).minCreatedAt);
+        assertEquals(RequestLogSegmentFile.toMillis(START.plusSeconds(2499)), blocks.get(2).maxCreatedAt);
+
+        List<RequestLog> read = RequestLogSegmentFile.readBlocks(directory.resolve("segment.seg"), blocks, log -> true);
+        assertEquals(logs.size(), read.size());
+        for (int i = 0; i < logs.size(); i++) {
+            assertSameLog(logs.get(i), read.get(i));
+        }
+    }
+
+    @Test
+    void indexCountsFailuresPerBlock() throws IOException {
+        RequestLogSegmentFile.write(directory, "segment", logs(1500));
+
+        List<RequestLogSegmentFile.Block> blocks = RequestLogSegmentFile.readIndex(directory.resolve("segment.idx"));
+        int failures = blocks.stream().mapToInt(block -> block.failureCount).sum();
+        assertEquals(1500 / 7 + 1, failures);
+    }
+
+    @Test
+    void usernameFilterNeverMissesAUserOfTheBlock() throws IOException {
+        List<RequestLog> logs = logs(2000);
+        for (int i = 0; i < 1000; i++) {
+            logs.get(i).setUsername("vendor-a");
+        }
+        RequestLogSegmentFile.write(directory, "segment", logs);
+
+        List<RequestLogSegmentFile.Block> blocks = RequestLogSegmentFile.readIndex(directory.resolve("segment.idx"));
+        assertTrue(blocks.get(0).mightContainUsername("vendor-a"));
+        assertFalse(blocks.get(1).mightContainUsername("vendor-a"));
+        for (int i = 1000; i < 2000; i++) {
+            assertTrue(blocks.get(1).mightContainUsername(logs.get(i).getUsername()));
+        }
+    }
+
+    @Test
+    void rejectsTruncatedSegment() throws IOException {
+        RequestLogSegmentFile.write(directory, "segment", logs(1000));
+        Path segment = directory.resolve("segment.seg");
+        List<RequestLogSegmentFile.Block> blocks = RequestLogSegmentFile.readIndex(directory.resolve("segment.idx"));
+
+        // Cut the last block short but keep the index that still claims its full length
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() / 2);
+        }
+
+        assertThrows(IOException.class, () -> RequestLogSegmentFile.readBlocks(segment, blocks, log -> true));
+    }
+
+    @Test
+    void rejectsTruncatedBlock() throws IOException {
+        RequestLogSegmentFile.write(directory, "segment", logs(1000));
+        RequestLogSegmentFile.Block block = RequestLogSegmentFile.readIndex(directory.resolve("segment.idx")).get(0);
+        RequestLogSegmentFile.Block cut = new RequestLogSegmentFile.Block(block.minCreatedAt, block.maxCreatedAt,
+                block.offset, block.length / 2, block.recordCount, block.failureCount, new long[0]);
+
+        assertThrows(IOException.class, () ->
+                RequestLogSegmentFile.readBlocks(directory.resolve("segment.seg"), Collections.singletonList(cut), log -> true));
+    }
+
+    @Test
+    void rejectsForeignIndex() throws IOException {
+        Path index = directory.resolve("other.idx");
+        Files.write(index, new byte[]{1, 2, 3, 4, 0, 0, 0, 0});
+
+        assertThrows(IOException.class, () -> RequestLogSegmentFile.readIndex(index));
+    }
+
+    private static List<RequestLog> logs(int count) {
+        List<RequestLog> logs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RequestLog log = new RequestLog();
+            log.setId((long) i + 1);
+            log.setRequestId("req-" + i);
+            log.setMethod("POST");
+            log.setEndpoint("/api/projects/" + i);
+            log.setUserAgent(i % 3 == 0 ? null : "agent " + (i % 5));
+            log.setIpAddress("10.0.0." + (i % 250));
+            log.setUsername("user-" + (i % 40));
+            log.setRequestBody(i % 2 == 0 ? "{\"name\":\"café " + i + "\"}" : null);
+            boolean failed = i % 7 == 0;
+            log.setResponseStatus(failed ? 500 : 200);
+            log.setErrorMessage(failed ? "boom " + i : null);
+            log.setProcessingTimeMs(i % 11 == 0 ? null : (long) i);
+            log.setCreatedAt(START.plusSeconds(i));
+            log.setCompletedAt(i % 13 == 0 ? null : START.plusSeconds(i).plusNanos(250_000_000));
+            log.setIsSuccessful(!failed);
+            logs.add(log);
+        }
+        return logs;
+    }
+
+    private static void assertSameLog(RequestLog expected, RequestLog actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getRequestId(), actual.getRequestId());
+        assertEquals(expected.getMethod(), actual.getMethod());
+        assertEquals(expected.getEndpoint(), actual.getEndpoint());
+        assertEquals(expected.getUserAgent(), actual.getUserAgent());
+        assertEquals(expected.getIpAddress(), actual.getIpAddress());
+        assertEquals(expected.getUsername(), actual.getUsername());
+        assertEquals(expected.getRequestBody(), actual.getRequestBody());
+        assertEquals(expected.getResponseStatus(), actual.getResponseStatus());
+        assertEquals(expected.getErrorMessage(), actual.getErrorMessage());
+        assertEquals(expected.getProcessingTimeMs(), actual.getProcessingTimeMs());
+        // Stored with millisecond precision
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+        assertEquals(expected.getCompletedAt(), actual.getCompletedAt());
+        assertEquals(expected.getIsSuccessful(), actual.getIsSuccessful());
+    }
+}
@@ -0,0 +1,87 @@
+package com.dashboard.v1.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SlidingWindowCounterTest {
+
+    private static final long MINUTE = 60_000;
+
+    @Test
+    void sumsOnlyBucketsInsideTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(MINUTE, 10);
+        long now = 1_000 * MINUTE;
+        counter.increment(now - 3 * MINUTE);
+        counter.increment(now - MINUTE);
+        counter.increment(now - MINUTE + 1);
+        counter.increment(now);
+
+        assertEquals(1, counter.sum(now, 1));
+        assertEquals(3, counter.sum(now, 2));
+        assertEquals(4, counter.sum(now, 5));
+    }
+
+    @Test
+    void slotReusedByANewBucketStartsFromZero() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(MINUTE, 4);
+        long now = 1_000 * MINUTE;
+        for (int i = 0; i < 5; i++) {
+            counter.increment(now);
+        }
+        // Four buckets later the ring wraps onto the same slot
+        long later = now + 4 * MINUTE;
+        counter.increment(later);
+
+        assertEquals(1, counter.sum(later, 4));
+        assertEquals(0, counter.sum(later + 4 * MINUTE, 4));
+    }
+
+    @Test
+    void windowLongerThanTheRingIsCappedAtTheRing() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(MINUTE, 3);
+        long now = 1_000 * MINUTE;
+        for (int i = 5; i >= 0; i--) {
+            counter.increment(now - i * MINUTE);
+        }
+
+        assertEquals(3, counter.sum(now, 60));
+    }
+
+    @Test
+    void concurrentIncrementsAreNotLostWhileTheWindowAdvances() throws InterruptedException {
+        SlidingWindowCounter counter = new SlidingWindowCounter(MINUTE, 2);
+        long first = 1_000 * MINUTE;
+        long second = first + MINUTE;
+        int threads = 8;
+        int perThread = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    counter.increment(i < perThread / 2 ? first : second);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals((long) threads * perThread, counter.sum(second, 2));
+        assertEquals((long) threads * perThread / 2, counter.sum(second, 1));
+    }
+}